@@ -0,0 +1,30 @@
+package com.venue.management.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String VENUE_CACHE = "venues";
+    public static final String USER_CACHE = "users";
+    public static final String PENDING_APPROVALS_CACHE = "pendingApprovals";
+    public static final String RATE_CARD_CACHE = "rateCards";
+
+    // Users change on approval/rejection only, but keep them short-lived so other edits surface quickly
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userCacheCustomizer(
+            @Value("${user.cache.ttl-seconds:60}") long ttlSeconds) {
+        return cacheManager -> cacheManager.registerCustomCache(USER_CACHE, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build());
+    }
+}
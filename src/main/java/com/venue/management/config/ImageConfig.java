@@ -0,0 +1,29 @@
+package com.venue.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ImageConfig {
+
+    public static final String IMAGE_EXECUTOR = "imageExecutor";
+
+    // Small and bounded: resizing is CPU and memory heavy, and a full queue only means a missing thumbnail
+    @Bean(IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageExecutor(@Value("${venue.images.workers:2}") int workers,
+                                                @Value("${venue.images.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("venue-image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -2,18 +2,24 @@ package com.venue.management.config;
 
 import com.venue.management.service.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -21,16 +27,26 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    // Hashes are written as {bcrypt}...; existing hashes without a prefix are still read as BCrypt
+    // and are re-encoded at the configured strength on the next successful login
     @Bean
-    public static PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(
+            @Qualifier(AsyncConfig.PASSWORD_HASHING_EXECUTOR) ThreadPoolTaskExecutor passwordHashingExecutor,
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hashing-timeout-ms:5000}") long timeoutMillis) {
+        String encodingId = "bcrypt";
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId,
+                Map.of(encodingId, new BCryptPasswordEncoder(strength)));
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        return new BoundedPasswordEncoder(delegating, passwordHashingExecutor.getThreadPoolExecutor(), timeoutMillis);
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsPasswordService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
@@ -41,6 +57,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/register", "/login", "/css/**", "/js/**", "/images/**", "/").permitAll()
                 .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/manager/**").hasAnyRole("ADMIN", "EVENT_MANAGER")
                 .anyRequest().authenticated()
             )
@@ -1,9 +1,11 @@
 package com.venue.management.controller;
 
-import com.venue.management.entity.Role;
 import com.venue.management.entity.User;
-import com.venue.management.repository.UserRepository;
+import com.venue.management.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,34 +13,32 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/admin")
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserService userService;
 
     @GetMapping("/approvals")
-    public String viewPendingApprovals(Model model) {
-        // Fetch all users who are EVENT_MANAGER and NOT enabled
-        List<User> pendingManagers = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == Role.EVENT_MANAGER && !u.isEnabled())
-                .toList();
-        model.addAttribute("pendingManagers", pendingManagers);
+    public String viewPendingApprovals(@RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "20") int size,
+                                       Model model) {
+        // Users who are EVENT_MANAGER and NOT enabled, oldest request first
+        Page<User> pendingManagers = userService.getPendingManagers(PageRequest.of(Math.max(page, 0),
+                Math.max(1, Math.min(size, 100)), Sort.by("userId")));
+        model.addAttribute("pendingManagers", pendingManagers.getContent());
+        model.addAttribute("page", pendingManagers);
         return "admin/approvals";
     }
 
     @PostMapping("/approve/{userId}")
     public String approveManager(@PathVariable Long userId, RedirectAttributes redirectAttributes) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null && user.getRole() == Role.EVENT_MANAGER) {
-            user.setEnabled(true);
-            userRepository.save(user);
+        if (userService.approveManager(userId)) {
             redirectAttributes.addFlashAttribute("success", "Event Manager approved successfully!");
         } else {
             redirectAttributes.addFlashAttribute("error", "User not found or invalid role.");
@@ -48,12 +48,7 @@ public class AdminController {
 
     @PostMapping("/reject/{userId}")
     public String rejectManager(@PathVariable Long userId, RedirectAttributes redirectAttributes) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null && user.getRole() == Role.EVENT_MANAGER) {
-            // Option 1: Delete the user request
-            userRepository.delete(user);
-            // Option 2: Keep them but disabled (current state), maybe verify strictly.
-            // Here we delete to allow re-registration or cleanup.
+        if (userService.rejectManager(userId)) {
             redirectAttributes.addFlashAttribute("success", "Request rejected and removed.");
         }
         return "redirect:/admin/approvals";
@@ -3,15 +3,29 @@ package com.venue.management.controller;
 import com.venue.management.entity.Booking;
 import com.venue.management.entity.User;
 import com.venue.management.entity.Venue;
+import com.venue.management.service.BookingConflictException;
+import com.venue.management.service.BookingImportService;
 import com.venue.management.service.BookingService;
-import com.venue.management.service.UserService;
+import com.venue.management.service.BookingSuggestions;
 import com.venue.management.service.VenueService;
+import com.venue.management.service.VenueUserDetails;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
 
 @Controller
 @RequestMapping("/bookings")
@@ -24,46 +38,91 @@ public class BookingController {
     private VenueService venueService;
 
     @Autowired
-    private UserService userService;
+    private BookingImportService bookingImportService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int SUGGESTION_LIMIT = 5;
 
     @GetMapping
-    public String listBookings(@AuthenticationPrincipal UserDetails userDetails, Model model) {
-        User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
-        java.util.List<Booking> bookings;
+    public String listBookings(@AuthenticationPrincipal VenueUserDetails userDetails,
+                               @RequestParam(required = false) Long venueId,
+                               @RequestParam(required = false) String status,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               @RequestParam(required = false) Long userId,
+                               @RequestParam(required = false) Long before,
+                               @RequestParam(required = false) Long after,
+                               @RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "20") int size,
+                               Model model) {
+        User user = userDetails.toUser();
         // Admins see all, customers see theirs
-        if (user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER")) {
-            bookings = bookingService.getAllBookings();
-        } else {
-            bookings = bookingService.getCustomerBookings(user);
-        }
-        
-        // Auto-mark bookings as COMPLETED if current date passes end date
-        java.time.LocalDate currentDate = java.time.LocalDate.now();
-        for (Booking booking : bookings) {
-            if (!"COMPLETED".equals(booking.getStatus()) && 
-                !"CANCELLED".equals(booking.getStatus()) &&
-                booking.getEndDate() != null &&
-                currentDate.isAfter(booking.getEndDate())) {
-                bookingService.updateStatus(booking.getBookingId(), "COMPLETED");
-            }
-        }
-        
-        // Refresh bookings after status updates
-        if (user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER")) {
-            bookings = bookingService.getAllBookings();
+        boolean staff = user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER");
+        Long ownerId = staff ? userId : user.getUserId();
+        String statusFilter = (status == null || status.isEmpty()) ? null : status;
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<Booking> bookings;
+        boolean hasNext;
+        boolean hasPrevious;
+        int position;
+        if (before != null) {
+            // Keyset pages fetch one extra row to tell whether another page follows in that direction;
+            // page only carries the position for display
+            bookings = bookingService.searchBookingsBefore(venueId, statusFilter, from, to, ownerId, before,
+                    pageSize + 1);
+            hasNext = bookings.size() > pageSize;
+            bookings = bookings.subList(0, Math.min(bookings.size(), pageSize));
+            hasPrevious = !bookings.isEmpty();
+            position = Math.max(page, 0);
+        } else if (after != null) {
+            bookings = bookingService.searchBookingsAfter(venueId, statusFilter, from, to, ownerId, after,
+                    pageSize + 1);
+            hasPrevious = bookings.size() > pageSize;
+            bookings = bookings.subList(Math.max(0, bookings.size() - pageSize), bookings.size());
+            hasNext = !bookings.isEmpty();
+            // Nothing newer means this is the first page, whatever position the link carried
+            position = hasPrevious ? Math.max(page, 0) : 0;
         } else {
-            bookings = bookingService.getCustomerBookings(user);
+            Page<Booking> result = bookingService.searchBookings(venueId, statusFilter, from, to, ownerId,
+                    PageRequest.of(Math.max(page, 0), pageSize, Sort.by(Sort.Direction.DESC, "bookingId")));
+            bookings = result.getContent();
+            hasNext = result.hasNext();
+            hasPrevious = result.hasPrevious();
+            position = result.getNumber();
+            model.addAttribute("page", result);
         }
-        
+
         model.addAttribute("bookings", bookings);
+        model.addAttribute("hasNext", hasNext);
+        model.addAttribute("hasPrevious", hasPrevious);
+        model.addAttribute("position", position);
+        model.addAttribute("nextBefore", bookings.isEmpty() ? null : bookings.get(bookings.size() - 1).getBookingId());
+        model.addAttribute("previousAfter", bookings.isEmpty() ? null : bookings.get(0).getBookingId());
+        model.addAttribute("size", pageSize);
+        model.addAttribute("venueId", venueId);
+        model.addAttribute("status", statusFilter);
+        model.addAttribute("from", from);
+        model.addAttribute("to", to);
+        model.addAttribute("userId", staff ? userId : null);
+        if (staff) {
+            model.addAttribute("venues", venueService.getAllVenues());
+        }
         return "booking/list";
     }
 
     @GetMapping("/create/{venueId}")
-    public String createBookingPage(@PathVariable Long venueId, Model model) {
+    public String createBookingPage(@PathVariable Long venueId,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate eventDate,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                    Model model) {
         Venue venue = venueService.getVenueById(venueId).orElseThrow();
         Booking booking = new Booking();
         booking.setVenue(venue);
+        // Prefilled when following a suggested date or venue
+        booking.setEventDate(eventDate);
+        booking.setEndDate(endDate);
         model.addAttribute("booking", booking);
         return "booking/create";
     }
@@ -71,13 +130,13 @@ public class BookingController {
     @PostMapping("/create")
     public String createBooking(@RequestParam("venueId") Long venueId, 
                                @ModelAttribute Booking booking, 
-                               @AuthenticationPrincipal UserDetails userDetails, 
+                               @AuthenticationPrincipal VenueUserDetails userDetails, 
                                Model model) {
         try {
             Venue venue = venueService.getVenueById(venueId).orElseThrow();
             booking.setVenue(venue);
             
-            User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
+            User user = userDetails.toUser();
             booking.setUser(user);
             
             // Set start date to current date if not provided
@@ -92,6 +151,16 @@ public class BookingController {
             
             bookingService.createBooking(booking);
             return "redirect:/bookings";
+        } catch (BookingConflictException e) {
+            // Suggestions are computed after the locking transaction has rolled back
+            BookingSuggestions suggestions = bookingService.suggestAlternatives(
+                    booking.getVenue(), booking.getEventDate(), booking.getEndDate(), SUGGESTION_LIMIT);
+            model.addAttribute("error", e.getMessage());
+            model.addAttribute("booking", booking);
+            model.addAttribute("venue", booking.getVenue());
+            model.addAttribute("alternativeDates", suggestions.alternativeDates());
+            model.addAttribute("similarVenues", suggestions.similarVenues());
+            return "booking/create";
         } catch (Exception e) {
             model.addAttribute("error", e.getMessage());
             model.addAttribute("booking", booking);
@@ -100,6 +169,20 @@ public class BookingController {
         }
     }
 
+    // Bulk import: CSV with header venueId,eventDate,endDate,eventType or a JSON array of the same fields
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    @ResponseBody
+    public BookingImportService.ImportReport importBookings(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                            InputStream body,
+                                                            @AuthenticationPrincipal VenueUserDetails userDetails)
+            throws IOException {
+        User user = userDetails.toUser();
+        List<BookingImportService.ImportRow> rows = contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)
+                ? bookingImportService.parseJson(body)
+                : bookingImportService.parseCsv(body);
+        return bookingImportService.importBookings(rows, user);
+    }
+
     @GetMapping("/cancel/{id}")
     public String cancelBooking(@PathVariable Long id) {
         bookingService.updateStatus(id, "CANCELLED");
@@ -107,8 +190,13 @@ public class BookingController {
     }
 
     @GetMapping("/complete/{id}")
-    public String completeBooking(@PathVariable Long id) {
-        bookingService.updateStatus(id, "COMPLETED");
+    public String completeBooking(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        try {
+            bookingService.updateStatus(id, "COMPLETED");
+        } catch (BookingConflictException e) {
+            // Completing a cancelled booking takes its dates back, which may now belong to someone else
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
         return "redirect:/bookings";
     }
 }
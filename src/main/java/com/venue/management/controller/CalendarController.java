@@ -0,0 +1,66 @@
+package com.venue.management.controller;
+
+import com.venue.management.entity.Venue;
+import com.venue.management.service.VenueCalendarService;
+import com.venue.management.service.VenueService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+@Controller
+@RequestMapping("/manager/calendar")
+public class CalendarController {
+
+    private static final long MAX_RANGE_DAYS = 3 * 366;
+    private static final int MAX_YEARS_FROM_NOW = 100;
+
+    @Autowired
+    private VenueCalendarService venueCalendarService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @GetMapping("/free")
+    @ResponseBody
+    public Map<Long, List<VenueCalendarService.DateRange>> freeWindows(
+            @RequestParam(required = false) List<Long> venueIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Date range must be ordered and at most three years long.");
+        }
+        return venueCalendarService.freeWindows(resolveVenueIds(venueIds), from, to);
+    }
+
+    @GetMapping("/occupancy")
+    @ResponseBody
+    public Map<Long, double[]> occupancy(@RequestParam(required = false) List<Long> venueIds,
+                                         @RequestParam int year) {
+        if (Math.abs(year - Year.now().getValue()) > MAX_YEARS_FROM_NOW) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Year must be within " + MAX_YEARS_FROM_NOW + " years of the current year.");
+        }
+        return venueCalendarService.monthlyOccupancy(resolveVenueIds(venueIds), year);
+    }
+
+    // All venues when none are named
+    private List<Long> resolveVenueIds(List<Long> venueIds) {
+        if (venueIds != null && !venueIds.isEmpty()) {
+            return venueIds;
+        }
+        return venueService.getAllVenues().stream().map(Venue::getVenueId).toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.venue.management.controller;
+
+import com.venue.management.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@Controller
+@RequestMapping("/admin/export")
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping("/bookings")
+    public void exportBookings(@RequestParam(required = false) String status,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               @RequestParam(defaultValue = "csv") String format,
+                               @RequestParam(defaultValue = "false") boolean gzip,
+                               HttpServletResponse response) throws IOException {
+        ExportService.Format exportFormat = parseFormat(format);
+        try (Writer out = openWriter(response, "bookings", exportFormat, gzip)) {
+            exportService.exportBookings(emptyToNull(status), from, to, exportFormat, out);
+        }
+    }
+
+    @GetMapping("/payments")
+    public void exportPayments(@RequestParam(required = false) String status,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               @RequestParam(defaultValue = "csv") String format,
+                               @RequestParam(defaultValue = "false") boolean gzip,
+                               HttpServletResponse response) throws IOException {
+        ExportService.Format exportFormat = parseFormat(format);
+        try (Writer out = openWriter(response, "payments", exportFormat, gzip)) {
+            exportService.exportPayments(emptyToNull(status), from, to, exportFormat, out);
+        }
+    }
+
+    private Writer openWriter(HttpServletResponse response, String name, ExportService.Format format, boolean gzip)
+            throws IOException {
+        String extension = format == ExportService.Format.NDJSON ? ".ndjson" : ".csv";
+        String contentType = format == ExportService.Format.NDJSON ? "application/x-ndjson" : "text/csv";
+        if (gzip) {
+            extension += ".gz";
+            contentType = "application/gzip";
+        }
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + extension + "\"");
+
+        OutputStream body = response.getOutputStream();
+        if (gzip) {
+            body = new GZIPOutputStream(body, 64 * 1024);
+        }
+        return new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private ExportService.Format parseFormat(String format) {
+        return "ndjson".equalsIgnoreCase(format) ? ExportService.Format.NDJSON : ExportService.Format.CSV;
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
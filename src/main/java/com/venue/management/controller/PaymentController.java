@@ -5,14 +5,19 @@ import com.venue.management.entity.Payment;
 import com.venue.management.entity.User;
 import com.venue.management.service.BookingService;
 import com.venue.management.service.PaymentService;
-import com.venue.management.service.UserService;
+import com.venue.management.service.PaymentSummary;
+import com.venue.management.service.PricingEngine;
+import com.venue.management.service.VenueUserDetails;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Controller
@@ -26,36 +31,33 @@ public class PaymentController {
     private BookingService bookingService;
 
     @Autowired
-    private UserService userService;
+    private PricingEngine pricingEngine;
 
     @GetMapping("/pay/{bookingId}")
-    public String paymentPage(@PathVariable Long bookingId, Model model) {
+    public String paymentPage(@PathVariable Long bookingId, @AuthenticationPrincipal VenueUserDetails userDetails,
+                              Model model) {
         // Need to fetch full booking object to show details
-        Booking booking = bookingService.getAllBookings().stream()
-                .filter(b -> b.getBookingId().equals(bookingId))
-                .findFirst().orElseThrow();
+        User user = userDetails.toUser();
+        Booking booking = bookingService.getBookingById(bookingId, user);
                 
         Payment payment = new Payment();
         payment.setBooking(booking);
         
         // Calculate total amount based on number of days
-        long days = java.time.temporal.ChronoUnit.DAYS.between(
-            booking.getEventDate(), 
-            booking.getEndDate()
-        ) + 1; // +1 to include both start and end dates
-        double totalAmount = booking.getVenue().getPricePerDay() * days;
-        payment.setPaymentAmount(totalAmount);
+        BigDecimal totalAmount = pricingEngine.quote(
+            booking.getVenue().getVenueId(), booking.getEventDate(), booking.getEndDate());
+        payment.setPaymentAmount(totalAmount.doubleValue());
         
         model.addAttribute("payment", payment);
         return "payment/process";
     }
 
     @PostMapping("/process")
-    public String processPayment(@RequestParam("bookingId") Long bookingId, @ModelAttribute Payment payment) {
+    public String processPayment(@RequestParam("bookingId") Long bookingId, @ModelAttribute Payment payment,
+                                 @AuthenticationPrincipal VenueUserDetails userDetails) {
         // Fetch booking again to ensure consistency
-        Booking booking = bookingService.getAllBookings().stream()
-                .filter(b -> b.getBookingId().equals(bookingId))
-                .findFirst().orElseThrow();
+        User user = userDetails.toUser();
+        Booking booking = bookingService.getBookingById(bookingId, user);
                 
         payment.setBooking(booking);
         paymentService.processPayment(payment);
@@ -63,8 +65,8 @@ public class PaymentController {
     }
 
     @GetMapping("/my-payments")
-    public String myPayments(@AuthenticationPrincipal UserDetails userDetails, Model model) {
-        User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
+    public String myPayments(@AuthenticationPrincipal VenueUserDetails userDetails, Model model) {
+        User user = userDetails.toUser();
         List<Payment> payments = paymentService.getUserPayments(user);
         
         // For each payment, determine the display status based on booking status
@@ -100,13 +102,20 @@ public class PaymentController {
     }
 
     @GetMapping("/admin")
-    public String adminPayments(Model model) {
-        model.addAttribute("totalEarnings", paymentService.getTotalEarnings());
-        model.addAttribute("successfulPaymentsCount", paymentService.getSuccessfulPaymentsCount());
-        model.addAttribute("pendingPaymentsCount", paymentService.getPendingPaymentsCount());
-        model.addAttribute("refundedPaymentsCount", paymentService.getRefundedPaymentsCount());
-        model.addAttribute("totalRefundedAmount", paymentService.getTotalRefundedAmount());
-        model.addAttribute("allPayments", paymentService.getAllPayments());
+    public String adminPayments(@RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "20") int size,
+                                Model model) {
+        PaymentSummary summary = paymentService.getPaymentSummary();
+        model.addAttribute("totalEarnings", summary.totalEarnings());
+        model.addAttribute("successfulPaymentsCount", summary.successfulCount());
+        model.addAttribute("pendingPaymentsCount", summary.pendingCount());
+        model.addAttribute("refundedPaymentsCount", summary.refundedCount());
+        model.addAttribute("totalRefundedAmount", summary.totalRefunded());
+
+        Page<Payment> payments = paymentService.getPayments(PageRequest.of(Math.max(page, 0),
+                Math.max(1, Math.min(size, 100)), Sort.by(Sort.Direction.DESC, "paymentId")));
+        model.addAttribute("allPayments", payments.getContent());
+        model.addAttribute("page", payments);
         return "payment/admin-payments";
     }
 }
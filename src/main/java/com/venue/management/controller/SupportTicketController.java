@@ -3,15 +3,16 @@ package com.venue.management.controller;
 import com.venue.management.entity.SupportTicket;
 import com.venue.management.entity.User;
 import com.venue.management.service.SupportTicketService;
-import com.venue.management.service.UserService;
+import com.venue.management.service.VenueUserDetails;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDateTime;
+
 @Controller
 @RequestMapping("/support")
 public class SupportTicketController {
@@ -19,15 +20,22 @@ public class SupportTicketController {
     @Autowired
     private SupportTicketService supportTicketService;
 
-    @Autowired
-    private UserService userService;
+    private static final int SEARCH_LIMIT = 50;
 
     @GetMapping
-    public String listTickets(@AuthenticationPrincipal UserDetails userDetails, Model model) {
-        User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
+    public String listTickets(@AuthenticationPrincipal VenueUserDetails userDetails,
+                              @RequestParam(required = false) String q,
+                              Model model) {
+        User user = userDetails.toUser();
         
         if (user.getRole().name().equals("ADMIN") || user.getRole().name().equals("EVENT_MANAGER")) {
-            model.addAttribute("tickets", supportTicketService.getAllTickets());
+            if (q != null && !q.isBlank()) {
+                // Ranked full-text matches from the in-memory index
+                model.addAttribute("tickets", supportTicketService.searchTickets(q, SEARCH_LIMIT));
+                model.addAttribute("q", q.trim());
+            } else {
+                model.addAttribute("tickets", supportTicketService.getAllTickets());
+            }
         } else {
             model.addAttribute("tickets", supportTicketService.getCustomerTickets(user));
         }
@@ -41,16 +49,16 @@ public class SupportTicketController {
     }
 
     @PostMapping("/create")
-    public String createTicket(@ModelAttribute SupportTicket ticket, @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
+    public String createTicket(@ModelAttribute SupportTicket ticket, @AuthenticationPrincipal VenueUserDetails userDetails) {
+        User user = userDetails.toUser();
         ticket.setCustomer(user);
         supportTicketService.createTicket(ticket);
         return "redirect:/support";
     }
 
     @GetMapping("/resolve/{id}")
-    public String resolveTicketPage(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails, Model model, RedirectAttributes redirectAttributes) {
-        User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
+    public String resolveTicketPage(@PathVariable Long id, @AuthenticationPrincipal VenueUserDetails userDetails, Model model, RedirectAttributes redirectAttributes) {
+        User user = userDetails.toUser();
         SupportTicket ticket = supportTicketService.getTicketById(id);
         
         // Security check: If ticket was created by a manager, only admin can resolve it
@@ -66,6 +74,12 @@ public class SupportTicketController {
             redirectAttributes.addFlashAttribute("error", "This ticket is already resolved.");
             return "redirect:/support";
         }
+
+        if (claimedByOther(ticket, user)) {
+            redirectAttributes.addFlashAttribute("error",
+                    "This ticket is claimed by " + ticket.getAssignee().getUsername() + ".");
+            return "redirect:/support";
+        }
         
         model.addAttribute("ticket", ticket);
         return "support/resolve";
@@ -74,9 +88,9 @@ public class SupportTicketController {
     @PostMapping("/resolve/{id}")
     public String resolveTicket(@PathVariable Long id, 
                                @RequestParam("resolutionNotes") String resolutionNotes,
-                               @AuthenticationPrincipal UserDetails userDetails, 
+                               @AuthenticationPrincipal VenueUserDetails userDetails, 
                                RedirectAttributes redirectAttributes) {
-        User user = userService.findByUsername(userDetails.getUsername()).orElseThrow();
+        User user = userDetails.toUser();
         SupportTicket ticket = supportTicketService.getTicketById(id);
         
         // Security check: If ticket was created by a manager, only admin can resolve it
@@ -92,8 +106,47 @@ public class SupportTicketController {
             return "redirect:/support/resolve/" + id;
         }
         
-        supportTicketService.resolveTicket(id, resolutionNotes.trim());
+        try {
+            supportTicketService.resolveTicket(id, resolutionNotes.trim(), user);
+        } catch (RuntimeException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return "redirect:/support";
+        }
         redirectAttributes.addFlashAttribute("success", "Ticket resolved successfully.");
         return "redirect:/support";
     }
+
+    // Work queue: hands the caller the oldest open ticket nobody else holds
+    @PostMapping("/claim")
+    public String claimNextTicket(@AuthenticationPrincipal VenueUserDetails userDetails,
+                                  RedirectAttributes redirectAttributes) {
+        User user = userDetails.toUser();
+        if (!user.getRole().name().equals("ADMIN") && !user.getRole().name().equals("EVENT_MANAGER")) {
+            redirectAttributes.addFlashAttribute("error", "Only staff can claim tickets.");
+            return "redirect:/support";
+        }
+        return supportTicketService.claimNextTicket(user)
+                .map(ticket -> "redirect:/support/resolve/" + ticket.getTicketId())
+                .orElseGet(() -> {
+                    redirectAttributes.addFlashAttribute("success", "No open tickets are waiting.");
+                    return "redirect:/support";
+                });
+    }
+
+    @PostMapping("/release/{id}")
+    public String releaseTicket(@PathVariable Long id, @AuthenticationPrincipal VenueUserDetails userDetails,
+                                RedirectAttributes redirectAttributes) {
+        User user = userDetails.toUser();
+        if (supportTicketService.releaseTicket(id, user)) {
+            redirectAttributes.addFlashAttribute("success", "Ticket released back to the queue.");
+        }
+        return "redirect:/support";
+    }
+
+    private static boolean claimedByOther(SupportTicket ticket, User user) {
+        return ticket.getAssignee() != null
+                && !ticket.getAssignee().getUserId().equals(user.getUserId())
+                && ticket.getLeaseExpiresAt() != null
+                && ticket.getLeaseExpiresAt().isAfter(LocalDateTime.now());
+    }
 }
@@ -1,20 +1,28 @@
 package com.venue.management.controller;
 
 import com.venue.management.entity.Venue;
+import com.venue.management.service.PricingEngine;
+import com.venue.management.service.VenueDeletionService;
+import com.venue.management.service.VenueImageService;
 import com.venue.management.service.VenueService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequestMapping("/venues")
@@ -23,12 +31,63 @@ public class VenueController {
     @Autowired
     private VenueService venueService;
 
+    @Autowired
+    private VenueImageService venueImageService;
+
+    @Autowired
+    private VenueDeletionService venueDeletionService;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
     @GetMapping
     public String listVenues(Model model) {
         model.addAttribute("venues", venueService.getAllVenues());
         return "venue/list";
     }
 
+    @GetMapping("/search")
+    public String searchVenues(@RequestParam(required = false) String location,
+                               @RequestParam(required = false) Integer minCapacity,
+                               @RequestParam(required = false) Integer maxCapacity,
+                               @RequestParam(required = false) Double minPrice,
+                               @RequestParam(required = false) Double maxPrice,
+                               @RequestParam(required = false) String status,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               @RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "12") int size,
+                               Model model) {
+        String locationFilter = location == null || location.isBlank() ? null : location.trim();
+        String statusFilter = status == null || status.isEmpty() ? null : status;
+        Page<Venue> venues = venueService.searchVenues(locationFilter, minCapacity, maxCapacity, minPrice, maxPrice,
+                statusFilter, from, to,
+                PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, 60)), Sort.by("venueName")));
+        model.addAttribute("venues", venues.getContent());
+        model.addAttribute("page", venues);
+        if ((from != null || to != null) && !venues.isEmpty()) {
+            // Same range the search filtered on; the whole page is quoted in one pass over the rate card cache
+            LocalDate quoteFrom = from != null ? from : to;
+            LocalDate quoteTo = to == null || to.isBefore(quoteFrom) ? quoteFrom : to;
+            List<Long> venueIds = venues.getContent().stream().map(Venue::getVenueId).toList();
+            long[] totals = pricingEngine.quoteMinor(venueIds, quoteFrom, quoteTo);
+            Map<Long, BigDecimal> quotes = new HashMap<>();
+            for (int i = 0; i < totals.length; i++) {
+                quotes.put(venueIds.get(i), PricingEngine.toAmount(totals[i]));
+            }
+            model.addAttribute("quotes", quotes);
+        }
+        model.addAttribute("location", locationFilter);
+        model.addAttribute("minCapacity", minCapacity);
+        model.addAttribute("maxCapacity", maxCapacity);
+        model.addAttribute("minPrice", minPrice);
+        model.addAttribute("maxPrice", maxPrice);
+        model.addAttribute("status", statusFilter);
+        model.addAttribute("from", from);
+        model.addAttribute("to", to);
+        return "venue/list";
+    }
+
     @GetMapping("/add")
     public String addVenuePage(Model model) {
         model.addAttribute("venue", new Venue());
@@ -51,18 +110,23 @@ public class VenueController {
                 }
             }
 
-            // Handle image upload
-            if (imageFile != null && !imageFile.isEmpty()) {
-                String imagePath = saveImage(imageFile);
-                venue.setImagePath(imagePath);
+            // Handle image upload; the thumbnail is generated after the venue is saved
+            boolean newImage = imageFile != null && !imageFile.isEmpty();
+            if (newImage) {
+                venue.setImagePath(venueImageService.store(imageFile));
+                venue.setThumbnailPath(null);
             } else if (venue.getVenueId() != null) {
-                // If editing and no new image, keep existing image path
+                // If editing and no new image, keep existing image paths
                 Venue existingVenue = venueService.getVenueById(venue.getVenueId())
                     .orElseThrow(() -> new RuntimeException("Venue not found"));
                 venue.setImagePath(existingVenue.getImagePath());
+                venue.setThumbnailPath(existingVenue.getThumbnailPath());
             }
 
-            venueService.saveVenue(venue);
+            Venue saved = venueService.saveVenue(venue);
+            if (newImage) {
+                venueImageService.generateVariants(saved.getVenueId(), saved.getImagePath());
+            }
             redirectAttributes.addFlashAttribute("success", "Venue saved successfully!");
             return "redirect:/venues";
         } catch (Exception e) {
@@ -109,50 +173,23 @@ public class VenueController {
         try {
             Venue venue = venueService.getVenueById(id).orElseThrow(() -> new RuntimeException("Venue not found"));
             
-            // Delete image file if exists
-            if (venue.getImagePath() != null && !venue.getImagePath().isEmpty()) {
-                deleteImage(venue.getImagePath());
-            }
-            
-            venueService.deleteVenue(id);
-            redirectAttributes.addFlashAttribute("success", "Venue deleted successfully!");
+            // Venues with long booking histories take a while, so the cascade runs as a background job
+            String jobId = venueDeletionService.startDeletion(id, () -> {
+                // Delete image files once the venue is gone
+                venueImageService.delete(venue.getImagePath());
+                venueImageService.delete(venue.getThumbnailPath());
+            });
+            redirectAttributes.addFlashAttribute("success", "Venue deletion started (job " + jobId + ").");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Error deleting venue: " + e.getMessage());
         }
         return "redirect:/venues";
     }
 
-    private String saveImage(MultipartFile file) throws IOException {
-        // Create upload directory if it doesn't exist
-        Path uploadPath = Paths.get("src/main/resources/static/images");
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".") 
-            ? originalFilename.substring(originalFilename.lastIndexOf(".")) 
-            : "";
-        String filename = UUID.randomUUID().toString() + extension;
-
-        // Save file
-        Path filePath = uploadPath.resolve(filename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-        // Return relative path for database storage
-        return "/images/" + filename;
-    }
-
-    private void deleteImage(String imagePath) {
-        try {
-            if (imagePath != null && !imagePath.isEmpty()) {
-                Path filePath = Paths.get("src/main/resources/static" + imagePath);
-                Files.deleteIfExists(filePath);
-            }
-        } catch (IOException e) {
-            // Log error but don't fail the delete operation
-            System.err.println("Error deleting image file: " + e.getMessage());
-        }
+    @GetMapping("/delete/jobs/{jobId}")
+    @ResponseBody
+    public VenueDeletionService.JobProgress deletionProgress(@PathVariable String jobId) {
+        return venueDeletionService.getProgress(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Deletion job not found"));
     }
 }
@@ -4,22 +4,27 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "support_tickets")
+@Table(name = "support_tickets", indexes = {
+        @Index(name = "idx_tickets_queue", columnList = "ticket_status, created_date")
+})
 public class SupportTicket {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ticket_id")
     private Long ticketId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private User customer;
 
     @Column(columnDefinition = "TEXT")
     private String issueDescription;
 
+    @Column(name = "ticket_status")
     private String ticketStatus; // OPEN, RESOLVED
 
+    @Column(name = "created_date")
     private LocalDateTime createdDate;
 
     private LocalDateTime resolvedDate;
@@ -27,6 +32,14 @@ public class SupportTicket {
     @Column(columnDefinition = "TEXT")
     private String resolutionNotes;
 
+    // Staff member working the ticket; the claim lapses when the lease expires
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
     public SupportTicket() {
     }
 
@@ -96,4 +109,20 @@ public class SupportTicket {
     public void setResolutionNotes(String resolutionNotes) {
         this.resolutionNotes = resolutionNotes;
     }
+
+    public User getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(User assignee) {
+        this.assignee = assignee;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
 }
@@ -3,7 +3,9 @@ package com.venue.management.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_enabled", columnList = "role, enabled")
+})
 public class User {
 
     @Id
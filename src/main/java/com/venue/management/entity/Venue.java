@@ -3,7 +3,10 @@ package com.venue.management.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "venues")
+@Table(name = "venues", indexes = {
+        @Index(name = "idx_venues_status_location", columnList = "status, location, capacity"),
+        @Index(name = "idx_venues_price", columnList = "price_per_day")
+})
 public class Venue {
 
     @Id
@@ -18,6 +21,7 @@ public class Venue {
 
     private int capacity;
 
+    @Column(name = "price_per_day")
     private double pricePerDay;
 
     @Column(nullable = false)
@@ -26,6 +30,9 @@ public class Venue {
     @Column(name = "image_path")
     private String imagePath;
 
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
     public Venue() {
     }
 
@@ -93,4 +100,12 @@ public class Venue {
     public void setImagePath(String imagePath) {
         this.imagePath = imagePath;
     }
+
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public void setThumbnailPath(String thumbnailPath) {
+        this.thumbnailPath = thumbnailPath;
+    }
 }
@@ -3,13 +3,103 @@ package com.venue.management.repository;
 import com.venue.management.entity.Booking;
 import com.venue.management.entity.User;
 import com.venue.management.entity.Venue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    @Override
+    @EntityGraph(attributePaths = {"user", "venue"})
+    List<Booking> findAll();
+
+    @EntityGraph(attributePaths = "venue")
     List<Booking> findByUser(User user);
+
     List<Booking> findByVenue(Venue venue);
+
+    @EntityGraph(attributePaths = {"user", "venue"})
+    Optional<Booking> findWithUserAndVenueByBookingId(Long bookingId);
+
+    // Rows are [bookingId, venueId, eventDate, endDate]; used to seed the availability index
+    @Query("SELECT b.bookingId, b.venue.venueId, b.eventDate, b.endDate FROM Booking b " +
+           "WHERE b.status IS NULL OR b.status <> 'CANCELLED'")
+    List<Object[]> findActiveBookingRanges();
+
+    @Query("SELECT b.bookingId, b.venue.venueId, b.eventDate, b.endDate FROM Booking b " +
+           "WHERE b.venue.venueId IN ?1 AND (b.status IS NULL OR b.status <> 'CANCELLED')")
+    List<Object[]> findActiveBookingRangesByVenueIds(Collection<Long> venueIds);
+
+    // Same row shape, limited to the given venues and to bookings touching [from, to]
+    @Query("SELECT b.bookingId, b.venue.venueId, b.eventDate, b.endDate FROM Booking b " +
+           "WHERE b.venue.venueId IN ?1 AND b.eventDate <= ?3 AND COALESCE(b.endDate, b.eventDate) >= ?2 " +
+           "AND (b.status IS NULL OR b.status <> 'CANCELLED')")
+    List<Object[]> findActiveBookingRangesForVenues(Collection<Long> venueIds, LocalDate from, LocalDate to);
+
+    // Rows are [status, count]
+    @Query("SELECT b.status, COUNT(b) FROM Booking b GROUP BY b.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.venue.venueId = ?1 " +
+           "AND b.eventDate <= ?3 AND COALESCE(b.endDate, b.eventDate) >= ?2 " +
+           "AND (b.status IS NULL OR b.status <> 'CANCELLED')")
+    long countOverlappingBookings(Long venueId, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = 'COMPLETED' WHERE b.endDate < ?1 " +
+           "AND (b.status IS NULL OR b.status NOT IN ('COMPLETED', 'CANCELLED'))")
+    int completeBookingsEndedBefore(LocalDate date);
+
+    String SEARCH_FILTER = "(?1 IS NULL OR b.venue.venueId = ?1) " +
+            "AND (?2 IS NULL OR b.status = ?2) " +
+            "AND (?3 IS NULL OR COALESCE(b.endDate, b.eventDate) >= ?3) " +
+            "AND (?4 IS NULL OR b.eventDate <= ?4) " +
+            "AND (?5 IS NULL OR b.user.userId = ?5)";
+
+    @EntityGraph(attributePaths = "venue")
+    @Query(value = "SELECT b FROM Booking b WHERE " + SEARCH_FILTER,
+           countQuery = "SELECT COUNT(b) FROM Booking b WHERE " + SEARCH_FILTER)
+    Page<Booking> search(Long venueId, String status, LocalDate from, LocalDate to, Long userId, Pageable pageable);
+
+    // Keyset variant for deep pages: seeks past the last seen id instead of skipping an offset
+    @EntityGraph(attributePaths = "venue")
+    @Query("SELECT b FROM Booking b WHERE " + SEARCH_FILTER + " AND b.bookingId < ?6 ORDER BY b.bookingId DESC")
+    List<Booking> searchBefore(Long venueId, String status, LocalDate from, LocalDate to, Long userId,
+                               Long beforeId, Pageable pageable);
+
+    // Backward keyset step for "Previous": the nearest newer ids, ascending; callers reverse them
+    @EntityGraph(attributePaths = "venue")
+    @Query("SELECT b FROM Booking b WHERE " + SEARCH_FILTER + " AND b.bookingId > ?6 ORDER BY b.bookingId ASC")
+    List<Booking> searchAfter(Long venueId, String status, LocalDate from, LocalDate to, Long userId,
+                              Long afterId, Pageable pageable);
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the result set
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user JOIN FETCH b.venue " +
+           "WHERE (?1 IS NULL OR b.status = ?1) " +
+           "AND (?2 IS NULL OR b.eventDate >= ?2) AND (?3 IS NULL OR b.eventDate <= ?3) " +
+           "ORDER BY b.bookingId")
+    Stream<Booking> streamForExport(String status, LocalDate from, LocalDate to);
+
+    long countByVenue_VenueId(Long venueId);
+
+    @Query("SELECT b.bookingId FROM Booking b WHERE b.venue.venueId = ?1 ORDER BY b.bookingId")
+    List<Long> findIdsByVenueId(Long venueId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.bookingId IN ?1")
+    int deleteByBookingIds(Collection<Long> bookingIds);
 }
@@ -2,16 +2,36 @@ package com.venue.management.repository;
 
 import com.venue.management.entity.Booking;
 import com.venue.management.entity.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    @Override
+    @EntityGraph(attributePaths = {"booking", "booking.user", "booking.venue"})
+    List<Payment> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"booking", "booking.user", "booking.venue"})
+    Page<Payment> findAll(Pageable pageable);
+
     Optional<Payment> findByBooking(Booking booking);
+
+    @EntityGraph(attributePaths = {"booking", "booking.venue"})
     List<Payment> findByBooking_User_UserId(Long userId);
     
     @Query("SELECT COUNT(p) FROM Payment p WHERE p.paymentStatus = ?1")
@@ -22,4 +42,20 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     
     @Query("SELECT SUM(p.paymentAmount) FROM Payment p WHERE p.paymentStatus = 'REFUNDED'")
     Double sumRefundedPayments();
+
+    // Rows are [paymentStatus, count, sum of paymentAmount]
+    @Query("SELECT p.paymentStatus, COUNT(p), SUM(p.paymentAmount) FROM Payment p GROUP BY p.paymentStatus")
+    List<Object[]> summarizeByPaymentStatus();
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the result set
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT p FROM Payment p JOIN FETCH p.booking b JOIN FETCH b.user JOIN FETCH b.venue " +
+           "WHERE (?1 IS NULL OR p.paymentStatus = ?1) " +
+           "AND (?2 IS NULL OR p.paymentDate >= ?2) AND (?3 IS NULL OR p.paymentDate < ?3) " +
+           "ORDER BY p.paymentId")
+    Stream<Payment> streamForExport(String status, LocalDateTime from, LocalDateTime toExclusive);
+
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.booking.bookingId IN ?1")
+    int deleteByBookingIds(Collection<Long> bookingIds);
 }
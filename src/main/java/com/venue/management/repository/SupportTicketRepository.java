@@ -2,13 +2,66 @@ package com.venue.management.repository;
 
 import com.venue.management.entity.SupportTicket;
 import com.venue.management.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SupportTicketRepository extends JpaRepository<SupportTicket, Long> {
+    @Override
+    @EntityGraph(attributePaths = {"customer", "assignee"})
+    List<SupportTicket> findAll();
+
     List<SupportTicket> findByCustomer(User customer);
+
+    @EntityGraph(attributePaths = {"customer", "assignee"})
+    Optional<SupportTicket> findWithCustomerByTicketId(Long ticketId);
     long countByTicketStatus(String ticketStatus);
+
+    @EntityGraph(attributePaths = {"customer", "assignee"})
+    List<SupportTicket> findByTicketIdIn(Collection<Long> ticketIds);
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the result set
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT t.ticketId, t.issueDescription, t.resolutionNotes FROM SupportTicket t ORDER BY t.ticketId")
+    Stream<Object[]> streamSearchText();
+
+    // Oldest open ticket that is unclaimed or whose lease has lapsed. SKIP LOCKED lets concurrent
+    // claimers pass over rows another transaction is claiming instead of queueing behind it.
+    // ?2 = false leaves out tickets raised by event managers, which only admins may resolve.
+    // Column names here must match the explicit @Column names on SupportTicket.
+    @Query(value = "SELECT t.ticket_id FROM support_tickets t JOIN users u ON u.user_id = t.customer_id " +
+                   "WHERE t.ticket_status = 'OPEN' AND (t.assignee_id IS NULL OR t.lease_expires_at < ?1) " +
+                   "AND (?2 OR u.role <> 'EVENT_MANAGER') " +
+                   "ORDER BY t.created_date, t.ticket_id LIMIT 1 FOR UPDATE OF t SKIP LOCKED",
+           nativeQuery = true)
+    Optional<Long> findNextClaimableId(LocalDateTime now, boolean includeManagerTickets);
+
+    @Modifying
+    @Query("UPDATE SupportTicket t SET t.assignee = ?2, t.leaseExpiresAt = ?3 WHERE t.ticketId = ?1")
+    int assign(Long ticketId, User assignee, LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Query("UPDATE SupportTicket t SET t.assignee = NULL, t.leaseExpiresAt = NULL " +
+           "WHERE t.ticketId = ?1 AND t.assignee = ?2 AND t.ticketStatus = 'OPEN'")
+    int release(Long ticketId, User assignee);
+
+    // Only succeeds while the ticket is open and not held by someone else under a live lease
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SupportTicket t SET t.ticketStatus = 'RESOLVED', t.resolvedDate = ?3, t.resolutionNotes = ?4, " +
+           "t.assignee = ?2, t.leaseExpiresAt = NULL " +
+           "WHERE t.ticketId = ?1 AND t.ticketStatus = 'OPEN' " +
+           "AND (t.assignee IS NULL OR t.assignee = ?2 OR t.leaseExpiresAt < ?3)")
+    int resolveIfClaimable(Long ticketId, User resolver, LocalDateTime now, String resolutionNotes);
 }
@@ -1,6 +1,9 @@
 package com.venue.management.repository;
 
+import com.venue.management.entity.Role;
 import com.venue.management.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,6 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+    Page<User> findByRoleAndEnabled(Role role, boolean enabled, Pageable pageable);
+    long countByRoleAndEnabled(Role role, boolean enabled);
 }
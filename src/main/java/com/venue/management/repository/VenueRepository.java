@@ -1,12 +1,52 @@
 package com.venue.management.repository;
 
 import com.venue.management.entity.Venue;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VenueRepository extends JpaRepository<Venue, Long> {
     List<Venue> findByStatus(String status);
+
+    // Rows are [status, count]
+    @Query("SELECT v.status, COUNT(v) FROM Venue v GROUP BY v.status")
+    List<Object[]> countGroupedByStatus();
+
+    // Row lock on the venue serializes booking admission per venue only
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Venue v WHERE v.venueId = ?1")
+    Optional<Venue> findByIdForUpdate(Long venueId);
+
+    // Location is a prefix match so the venue index stays usable; availability is an anti-join on bookings
+    String SEARCH_FILTER = "(?1 IS NULL OR v.location LIKE CONCAT(?1, '%')) " +
+            "AND (?2 IS NULL OR v.capacity >= ?2) " +
+            "AND (?3 IS NULL OR v.capacity <= ?3) " +
+            "AND (?4 IS NULL OR v.pricePerDay >= ?4) " +
+            "AND (?5 IS NULL OR v.pricePerDay <= ?5) " +
+            "AND (?6 IS NULL OR v.status = ?6) " +
+            "AND (?7 IS NULL OR NOT EXISTS (SELECT 1 FROM Booking b WHERE b.venue = v " +
+            "AND b.eventDate <= ?8 AND COALESCE(b.endDate, b.eventDate) >= ?7 " +
+            "AND (b.status IS NULL OR b.status <> 'CANCELLED')))";
+
+    @Query(value = "SELECT v FROM Venue v WHERE " + SEARCH_FILTER,
+           countQuery = "SELECT COUNT(v) FROM Venue v WHERE " + SEARCH_FILTER)
+    Page<Venue> search(String location, Integer minCapacity, Integer maxCapacity, Double minPrice, Double maxPrice,
+                       String status, LocalDate freeFrom, LocalDate freeTo, Pageable pageable);
+
+    boolean existsByImagePathOrThumbnailPath(String imagePath, String thumbnailPath);
+
+    // Only applies while the venue still shows the image the thumbnail was made from
+    @Modifying
+    @Query("UPDATE Venue v SET v.thumbnailPath = ?3 WHERE v.venueId = ?1 AND v.imagePath = ?2")
+    int updateThumbnailPath(Long venueId, String imagePath, String thumbnailPath);
 }
@@ -0,0 +1,11 @@
+package com.venue.management.service;
+
+/**
+ * Thrown when the requested dates overlap an existing booking for the venue.
+ */
+public class BookingConflictException extends RuntimeException {
+
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
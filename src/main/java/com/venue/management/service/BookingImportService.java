@@ -0,0 +1,301 @@
+package com.venue.management.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Imports many bookings in one request.
+ *
+ * All rows are validated in a single pass: for each venue the requested
+ * ranges are sorted and swept against that venue's existing bookings (merged
+ * into disjoint intervals) and against rows accepted earlier in the same file.
+ * Accepted rows are written with one batched JDBC insert.
+ */
+@Service
+public class BookingImportService {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final List<String> CSV_HEADER = List.of("venueId", "eventDate", "endDate", "eventType");
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private VenueAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** error is set when a field could not be parsed; such rows are rejected with that reason. */
+    public record ImportRow(int row, Long venueId, LocalDate eventDate, LocalDate endDate, String eventType,
+                            String error) {
+    }
+
+    public record RowResult(int row, Long venueId, boolean accepted, String reason) {
+    }
+
+    public record ImportReport(int accepted, int rejected, List<RowResult> rows) {
+    }
+
+    public List<ImportRow> parseCsv(InputStream in) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (MappingIterator<String[]> lines = CSV_MAPPER.readerFor(String[].class)
+                .readValues(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            if (!lines.hasNextValue() || !isHeader(lines.nextValue())) {
+                throw new IllegalArgumentException("CSV must start with the header " + String.join(",", CSV_HEADER));
+            }
+            int rowNumber = 0;
+            while (lines.hasNextValue()) {
+                String[] cells = lines.nextValue();
+                rowNumber++;
+                rows.add(toRow(rowNumber, cell(cells, 0), cell(cells, 1), cell(cells, 2), cell(cells, 3)));
+            }
+        }
+        return rows;
+    }
+
+    public List<ImportRow> parseJson(InputStream in) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        int rowNumber = 0;
+        for (JsonNode node : objectMapper.readTree(in)) {
+            rowNumber++;
+            rows.add(toRow(rowNumber,
+                    node.path("venueId").asText(null),
+                    node.path("eventDate").asText(null),
+                    node.path("endDate").asText(null),
+                    node.path("eventType").asText(null)));
+        }
+        return rows;
+    }
+
+    /** Rows must be numbered 1..n in list order, as the parse methods produce them. */
+    @Transactional
+    public ImportReport importBookings(List<ImportRow> rows, User user) {
+        RowResult[] results = new RowResult[rows.size()];
+        Map<Long, List<ImportRow>> byVenue = new HashMap<>();
+        LocalDate windowStart = LocalDate.MAX;
+        LocalDate windowEnd = LocalDate.MIN;
+
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = normalize(rows.get(i));
+            if (row.error() != null) {
+                results[i] = new RowResult(row.row(), row.venueId(), false, row.error());
+                continue;
+            }
+            if (row.venueId() == null || row.eventDate() == null) {
+                results[i] = new RowResult(row.row(), row.venueId(), false, "venueId and eventDate are required");
+                continue;
+            }
+            byVenue.computeIfAbsent(row.venueId(), id -> new ArrayList<>()).add(row);
+            if (row.eventDate().isBefore(windowStart)) {
+                windowStart = row.eventDate();
+            }
+            if (row.endDate().isAfter(windowEnd)) {
+                windowEnd = row.endDate();
+            }
+        }
+
+        List<ImportRow> accepted = new ArrayList<>();
+        if (!byVenue.isEmpty()) {
+            // Take the same venue locks as createBooking, in id order so concurrent imports cannot deadlock
+            Set<Long> venueIds = new TreeSet<>(byVenue.keySet());
+            Map<Long, Venue> venues = new HashMap<>();
+            for (Long venueId : venueIds) {
+                venueRepository.findByIdForUpdate(venueId).ifPresent(v -> venues.put(venueId, v));
+            }
+
+            Map<Long, List<LocalDate[]>> existing = new HashMap<>();
+            for (Object[] r : bookingRepository.findActiveBookingRangesForVenues(venueIds, windowStart, windowEnd)) {
+                LocalDate start = (LocalDate) r[2];
+                LocalDate end = r[3] != null ? (LocalDate) r[3] : start;
+                existing.computeIfAbsent((Long) r[1], id -> new ArrayList<>()).add(new LocalDate[] {start, end});
+            }
+
+            for (Map.Entry<Long, List<ImportRow>> entry : byVenue.entrySet()) {
+                if (!venues.containsKey(entry.getKey())) {
+                    for (ImportRow row : entry.getValue()) {
+                        results[row.row() - 1] = new RowResult(row.row(), row.venueId(), false, "Venue not found");
+                    }
+                    continue;
+                }
+                sweep(entry.getValue(), merge(existing.get(entry.getKey())), results, accepted);
+            }
+        }
+
+        insert(accepted, user);
+
+        int acceptedCount = accepted.size();
+        return new ImportReport(acceptedCount, rows.size() - acceptedCount, List.of(results));
+    }
+
+    private void sweep(List<ImportRow> requested, List<LocalDate[]> booked, RowResult[] results,
+                       List<ImportRow> accepted) {
+        requested.sort(Comparator.comparing(ImportRow::eventDate).thenComparingInt(ImportRow::row));
+        int next = 0;
+        LocalDate lastAcceptedEnd = null;
+        for (ImportRow row : requested) {
+            // Booked intervals are disjoint and sorted, so skip those ending before this row starts
+            while (next < booked.size() && booked.get(next)[1].isBefore(row.eventDate())) {
+                next++;
+            }
+            String reason = null;
+            if (next < booked.size() && !booked.get(next)[0].isAfter(row.endDate())) {
+                reason = "Venue is already booked for the selected date range.";
+            } else if (lastAcceptedEnd != null && !lastAcceptedEnd.isBefore(row.eventDate())) {
+                reason = "Overlaps another row in this import.";
+            }
+            if (reason == null) {
+                accepted.add(row);
+                lastAcceptedEnd = row.endDate();
+            }
+            results[row.row() - 1] = new RowResult(row.row(), row.venueId(), reason == null, reason);
+        }
+    }
+
+    // Sorts existing ranges and merges overlapping ones into disjoint intervals
+    private static List<LocalDate[]> merge(List<LocalDate[]> ranges) {
+        List<LocalDate[]> merged = new ArrayList<>();
+        if (ranges == null) {
+            return merged;
+        }
+        ranges.sort(Comparator.comparing(r -> r[0]));
+        for (LocalDate[] range : ranges) {
+            LocalDate[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && !range[0].isAfter(last[1])) {
+                if (range[1].isAfter(last[1])) {
+                    last[1] = range[1];
+                }
+            } else {
+                merged.add(new LocalDate[] {range[0], range[1]});
+            }
+        }
+        return merged;
+    }
+
+    private void insert(List<ImportRow> accepted, User user) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO bookings (user_id, venue_id, event_date, end_date, event_type, status) " +
+                "VALUES (?, ?, ?, ?, ?, 'PENDING')",
+                accepted, INSERT_BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, user.getUserId());
+                    ps.setLong(2, row.venueId());
+                    ps.setDate(3, Date.valueOf(row.eventDate()));
+                    ps.setDate(4, Date.valueOf(row.endDate()));
+                    ps.setString(5, row.eventType());
+                });
+
+        // Generated ids are not returned by the batch, so reload the affected venues into the index after commit
+        Set<Long> venueIds = new TreeSet<>();
+        accepted.forEach(row -> venueIds.add(row.venueId()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                availabilityIndex.reloadVenues(venueIds);
+            }
+        });
+    }
+
+    private static ImportRow normalize(ImportRow row) {
+        // Same defaulting as the booking form: a missing or earlier end date means a single day
+        LocalDate end = row.endDate() == null || (row.eventDate() != null && row.endDate().isBefore(row.eventDate()))
+                ? row.eventDate() : row.endDate();
+        return new ImportRow(row.row(), row.venueId(), row.eventDate(), end, row.eventType(), row.error());
+    }
+
+    private static boolean isHeader(String[] cells) {
+        if (cells.length < CSV_HEADER.size()) {
+            return false;
+        }
+        for (int i = 0; i < CSV_HEADER.size(); i++) {
+            // Spreadsheet exports may prefix the first cell with a byte order mark
+            String name = cells[i].replace("\uFEFF", "").trim();
+            if (!CSV_HEADER.get(i).equalsIgnoreCase(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String cell(String[] cells, int index) {
+        if (index >= cells.length || cells[index] == null) {
+            return null;
+        }
+        String value = cells[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Parses one row's fields; the first unparseable field becomes the row's rejection reason
+    private static ImportRow toRow(int rowNumber, String venueId, String eventDate, String endDate, String eventType) {
+        String error = null;
+        Long parsedVenueId = null;
+        if (venueId != null && !venueId.isEmpty()) {
+            try {
+                parsedVenueId = Long.valueOf(venueId.trim());
+            } catch (NumberFormatException e) {
+                error = "Invalid venueId: " + venueId;
+            }
+        }
+        LocalDate start = null;
+        LocalDate end = null;
+        try {
+            start = parseDate(eventDate);
+        } catch (DateTimeParseException e) {
+            error = error != null ? error : "Invalid eventDate (expected yyyy-MM-dd): " + eventDate;
+        }
+        try {
+            end = parseDate(endDate);
+        } catch (DateTimeParseException e) {
+            error = error != null ? error : "Invalid endDate (expected yyyy-MM-dd): " + endDate;
+        }
+        String type = eventType != null && !eventType.isBlank() ? eventType.trim() : null;
+        return new ImportRow(rowNumber, parsedVenueId, start, end, type, error);
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value != null && !value.isBlank() ? LocalDate.parse(value.trim()) : null;
+    }
+}
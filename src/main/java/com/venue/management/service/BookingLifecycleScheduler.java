@@ -0,0 +1,45 @@
+package com.venue.management.service;
+
+import com.venue.management.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically marks bookings whose end date has passed as COMPLETED,
+ * using one bulk UPDATE per run instead of per-row writes on page views.
+ */
+@Component
+public class BookingLifecycleScheduler {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final Counter completedCounter;
+    private final Timer sweepTimer;
+
+    public BookingLifecycleScheduler(MeterRegistry meterRegistry) {
+        this.completedCounter = Counter.builder("bookings.completion.rows")
+                .description("Bookings marked COMPLETED by the lifecycle sweep")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("bookings.completion.sweep")
+                .description("Duration of the booking completion sweep")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.completion.interval-ms:900000}")
+    @Transactional
+    public void completeExpiredBookings() {
+        long start = System.nanoTime();
+        int updated = bookingRepository.completeBookingsEndedBefore(LocalDate.now());
+        sweepTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        completedCounter.increment(updated);
+    }
+}
@@ -2,11 +2,24 @@ package com.venue.management.service;
 
 import com.venue.management.entity.Booking;
 import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface BookingService {
     List<Booking> getAllBookings();
     List<Booking> getCustomerBookings(User user);
+    Booking getBookingById(Long id, User requester);
+    Page<Booking> searchBookings(Long venueId, String status, LocalDate from, LocalDate to, Long userId,
+                                 Pageable pageable);
+    List<Booking> searchBookingsBefore(Long venueId, String status, LocalDate from, LocalDate to, Long userId,
+                                       Long beforeId, int size);
+    List<Booking> searchBookingsAfter(Long venueId, String status, LocalDate from, LocalDate to, Long userId,
+                                      Long afterId, int size);
     Booking createBooking(Booking booking);
+    BookingSuggestions suggestAlternatives(Venue venue, LocalDate start, LocalDate end, int limit);
     Booking updateStatus(Long id, String status);
 }
@@ -0,0 +1,13 @@
+package com.venue.management.service;
+
+import com.venue.management.entity.Venue;
+
+import java.util.List;
+
+/**
+ * Offered when a requested booking conflicts: other dates at the same venue
+ * and similar venues that are free on the requested dates.
+ */
+public record BookingSuggestions(List<VenueCalendarService.DateRange> alternativeDates,
+                                 List<Venue> similarVenues) {
+}
@@ -0,0 +1,23 @@
+package com.venue.management.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Point-in-time KPIs for the admin dashboard.
+ */
+public record DashboardSummary(Map<String, Long> venuesByStatus,
+                               Map<String, Long> bookingsByStatus,
+                               double netRevenue,
+                               long openTickets,
+                               long pendingApprovals,
+                               LocalDateTime refreshedAt) {
+
+    public long totalVenues() {
+        return venuesByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long totalBookings() {
+        return bookingsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,67 @@
+package com.venue.management.service;
+
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps a snapshot of admin dashboard KPIs, refreshed on the scheduler thread
+ * every dashboard.summary.refresh-ms so page loads never run the aggregates.
+ */
+@Service
+public class DashboardSummaryService {
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private SupportTicketService supportTicketService;
+
+    @Autowired
+    private UserService userService;
+
+    private volatile DashboardSummary snapshot;
+
+    public DashboardSummary getSummary() {
+        // Only the very first request can find no snapshot before the scheduler has run
+        if (snapshot == null) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.summary.refresh-ms:30000}")
+    public void refresh() {
+        PaymentSummary payments = paymentService.getPaymentSummary();
+        snapshot = new DashboardSummary(
+                toCounts(venueRepository.countGroupedByStatus()),
+                toCounts(bookingRepository.countGroupedByStatus()),
+                payments.totalEarnings() - payments.totalRefunded(),
+                supportTicketService.countOpenTickets(),
+                userService.countPendingManagers(),
+                LocalDateTime.now());
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : rows) {
+            String status = row[0] != null ? (String) row[0] : "UNKNOWN";
+            counts.merge(status, ((Number) row[1]).longValue(), Long::sum);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+}
@@ -0,0 +1,156 @@
+package com.venue.management.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.Payment;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.PaymentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes bookings and payments as CSV or NDJSON straight to a writer.
+ *
+ * Rows come from a streaming query and the persistence context is cleared
+ * as the export goes, so memory use does not depend on how many rows are exported.
+ */
+@Service
+public class ExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String[] BOOKING_COLUMNS =
+            {"bookingId", "username", "venueId", "venueName", "eventDate", "endDate", "eventType", "status"};
+
+    private static final String[] PAYMENT_COLUMNS =
+            {"paymentId", "bookingId", "username", "venueName", "paymentAmount", "paymentDate", "paymentStatus",
+             "bookingStatus"};
+
+    // Rows are separated by our own newlines rather than Jackson's default space
+    private static final JsonFactory JSON = new JsonFactory().setRootValueSeparator(null);
+
+    private static final int CLEAR_EVERY_ROWS = 500;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void exportBookings(String status, LocalDate from, LocalDate to, Format format, Writer out)
+            throws IOException {
+        try (Stream<Booking> rows = bookingRepository.streamForExport(status, from, to)) {
+            write(rows.iterator(), BOOKING_COLUMNS, format, out, b -> new Object[] {
+                    b.getBookingId(), b.getUser().getUsername(), b.getVenue().getVenueId(),
+                    b.getVenue().getVenueName(), b.getEventDate(), b.getEndDate(), b.getEventType(), b.getStatus()});
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPayments(String status, LocalDate from, LocalDate to, Format format, Writer out)
+            throws IOException {
+        try (Stream<Payment> rows = paymentRepository.streamForExport(status,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null)) {
+            write(rows.iterator(), PAYMENT_COLUMNS, format, out, p -> new Object[] {
+                    p.getPaymentId(), p.getBooking().getBookingId(), p.getBooking().getUser().getUsername(),
+                    p.getBooking().getVenue().getVenueName(), p.getPaymentAmount(), p.getPaymentDate(),
+                    p.getPaymentStatus(), p.getBooking().getStatus()});
+        }
+    }
+
+    private interface RowMapper<T> {
+        Object[] map(T row);
+    }
+
+    private <T> void write(Iterator<T> rows, String[] columns, Format format, Writer out, RowMapper<T> mapper)
+            throws IOException {
+        JsonGenerator json = format == Format.NDJSON ? JSON.createGenerator(out) : null;
+        if (json == null) {
+            writeCsvLine(out, columns);
+        }
+        int written = 0;
+        while (rows.hasNext()) {
+            Object[] values = mapper.map(rows.next());
+            if (json != null) {
+                json.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    writeJsonField(json, columns[i], values[i]);
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } else {
+                writeCsvLine(out, values);
+            }
+            // Drop written rows and their fetched associations from the persistence context
+            if (++written % CLEAR_EVERY_ROWS == 0) {
+                entityManager.clear();
+            }
+        }
+        if (json != null) {
+            json.flush();
+        }
+        out.flush();
+    }
+
+    private static void writeJsonField(JsonGenerator json, String name, Object value) throws IOException {
+        if (value == null) {
+            json.writeNullField(name);
+        } else if (value instanceof Long l) {
+            json.writeNumberField(name, l);
+        } else if (value instanceof Double d) {
+            json.writeNumberField(name, d);
+        } else {
+            json.writeStringField(name, value.toString());
+        }
+    }
+
+    private static void writeCsvLine(Writer out, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (values[i] instanceof Number number) {
+                writeCsvValue(out, number.toString());
+            } else if (values[i] != null) {
+                writeCsvValue(out, neutralizeFormula(values[i].toString()));
+            }
+        }
+        out.write("\r\n");
+    }
+
+    // Spreadsheets evaluate text cells starting with these as formulas (CSV injection); a leading
+    // apostrophe makes them plain text. Numbers are written as-is so negative amounts stay numeric.
+    private static String neutralizeFormula(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private static void writeCsvValue(Writer out, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
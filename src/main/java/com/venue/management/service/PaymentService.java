@@ -2,6 +2,8 @@ package com.venue.management.service;
 
 import com.venue.management.entity.Payment;
 import com.venue.management.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -10,6 +12,7 @@ public interface PaymentService {
     Payment getPaymentById(Long id);
     List<Payment> getUserPayments(User user);
     List<Payment> getAllPayments();
+    Page<Payment> getPayments(Pageable pageable);
     void refundPayment(Long bookingId);
     
     // Admin statistics
@@ -18,4 +21,5 @@ public interface PaymentService {
     long getPendingPaymentsCount();
     long getRefundedPaymentsCount();
     double getTotalRefundedAmount();
+    PaymentSummary getPaymentSummary();
 }
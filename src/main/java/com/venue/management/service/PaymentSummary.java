@@ -0,0 +1,8 @@
+package com.venue.management.service;
+
+/**
+ * Payment counts and totals per status, read in one grouped query.
+ */
+public record PaymentSummary(long successfulCount, long pendingCount, long refundedCount,
+                             double totalEarnings, double totalRefunded) {
+}
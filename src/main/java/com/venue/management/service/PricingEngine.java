@@ -0,0 +1,121 @@
+package com.venue.management.service;
+
+import com.venue.management.config.CacheConfig;
+import com.venue.management.entity.Venue;
+import com.venue.management.repository.VenueRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes booking quotes from cached per-venue rate cards.
+ *
+ * Amounts are held as long minor units (paise) so quoting is plain integer
+ * arithmetic. Rate cards live in the bounded, expiring rateCards cache; a
+ * save evicts the venue's card here, other instances pick it up on expiry.
+ */
+@Component
+public class PricingEngine {
+
+    private static final int MINOR_DIGITS = 2;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public record RateCard(Long venueId, long pricePerDayMinor) {
+    }
+
+    /** Total for the inclusive date range, in minor units. */
+    public long quoteMinor(Long venueId, LocalDate start, LocalDate end) {
+        return rateCard(venueId).pricePerDayMinor() * days(start, end);
+    }
+
+    /**
+     * Totals for many venues over the same inclusive date range, in minor
+     * units and in the order of venueIds. Cards missing from the cache are
+     * loaded with a single query; unknown venues quote 0.
+     */
+    public long[] quoteMinor(List<Long> venueIds, LocalDate start, LocalDate end) {
+        Cache cache = rateCards();
+        Map<Long, RateCard> cards = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long venueId : venueIds) {
+            RateCard card = cache.get(venueId, RateCard.class);
+            if (card != null) {
+                cards.put(venueId, card);
+            } else {
+                missing.add(venueId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Venue venue : venueRepository.findAllById(missing)) {
+                RateCard card = toRateCard(venue);
+                cache.put(venue.getVenueId(), card);
+                cards.put(venue.getVenueId(), card);
+            }
+        }
+
+        long days = days(start, end);
+        long[] totals = new long[venueIds.size()];
+        for (int i = 0; i < totals.length; i++) {
+            RateCard card = cards.get(venueIds.get(i));
+            totals[i] = card != null ? card.pricePerDayMinor() * days : 0L;
+        }
+        return totals;
+    }
+
+    public BigDecimal quote(Long venueId, LocalDate start, LocalDate end) {
+        return toAmount(quoteMinor(venueId, start, end));
+    }
+
+    public void evict(Long venueId) {
+        if (venueId != null) {
+            rateCards().evict(venueId);
+        }
+    }
+
+    public static BigDecimal toAmount(long minor) {
+        return BigDecimal.valueOf(minor, MINOR_DIGITS);
+    }
+
+    private RateCard rateCard(Long venueId) {
+        Cache cache = rateCards();
+        RateCard card = cache.get(venueId, RateCard.class);
+        if (card == null) {
+            card = toRateCard(venueRepository.findById(venueId)
+                    .orElseThrow(() -> new RuntimeException("Venue not found")));
+            cache.put(venueId, card);
+        }
+        return card;
+    }
+
+    private Cache rateCards() {
+        return cacheManager.getCache(CacheConfig.RATE_CARD_CACHE);
+    }
+
+    private static RateCard toRateCard(Venue venue) {
+        long minor = BigDecimal.valueOf(venue.getPricePerDay())
+                .setScale(MINOR_DIGITS, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+        return new RateCard(venue.getVenueId(), minor);
+    }
+
+    // +1 to include both start and end dates
+    private static long days(LocalDate start, LocalDate end) {
+        return ChronoUnit.DAYS.between(start, end != null ? end : start) + 1;
+    }
+}
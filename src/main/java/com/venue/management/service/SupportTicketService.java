@@ -3,12 +3,16 @@ package com.venue.management.service;
 import com.venue.management.entity.SupportTicket;
 import com.venue.management.entity.User;
 import java.util.List;
+import java.util.Optional;
 
 public interface SupportTicketService {
     List<SupportTicket> getAllTickets();
     List<SupportTicket> getCustomerTickets(User user);
     SupportTicket createTicket(SupportTicket ticket);
+    List<SupportTicket> searchTickets(String query, int limit);
     SupportTicket getTicketById(Long id);
-    SupportTicket resolveTicket(Long id, String resolutionNotes);
+    SupportTicket resolveTicket(Long id, String resolutionNotes, User resolver);
+    Optional<SupportTicket> claimNextTicket(User staff);
+    boolean releaseTicket(Long id, User staff);
     long countOpenTickets();
 }
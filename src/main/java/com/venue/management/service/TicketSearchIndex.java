@@ -0,0 +1,361 @@
+package com.venue.management.service;
+
+import com.venue.management.entity.SupportTicket;
+import com.venue.management.repository.SupportTicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory full-text index over support ticket descriptions and resolution
+ * notes, ranked with BM25.
+ *
+ * Each term maps to postings held in parallel int arrays (document ordinal,
+ * term frequency) in ascending ordinal order. A ticket whose text changes is
+ * indexed again under a new ordinal and its old ordinal is marked deleted;
+ * postings drop deleted entries once they make up half of the list, and once
+ * deleted ordinals outnumber live ones the live documents are renumbered
+ * densely, so ordinals stay within twice the number of tickets.
+ *
+ * Queries score into a per-ordinal accumulator borrowed from a small pool and
+ * cleared through the list of documents they touched, so a query does not
+ * allocate or zero an array the size of the index.
+ */
+@Component
+public class TicketSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+    // Accumulators kept for reuse; more concurrent searches than this allocate their own
+    private static final int MAX_POOLED_ACCUMULATORS = 8;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "in", "is", "it",
+            "my", "of", "on", "or", "that", "the", "this", "to", "was", "we", "were", "with");
+
+    @Autowired
+    private SupportTicketRepository supportTicketRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByTicket = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    // Pooled rather than thread-local, as requests may run on short-lived virtual threads
+    private final ConcurrentLinkedQueue<float[]> accumulators = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledAccumulators = new AtomicInteger();
+    private long[] ticketIds = new long[INITIAL_CAPACITY];
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+    private int docCount;
+    private int liveDocs;
+    private long totalLength;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try (Stream<Object[]> rows = supportTicketRepository.streamSearchText()) {
+            postings.clear();
+            docByTicket.clear();
+            deleted.clear();
+            docCount = 0;
+            liveDocs = 0;
+            totalLength = 0;
+            rows.forEach(row -> addDocument((Long) row[0], text((String) row[1], (String) row[2])));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(SupportTicket ticket) {
+        lock.writeLock().lock();
+        try {
+            addDocument(ticket.getTicketId(), text(ticket));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Re-indexes a ticket; {@code previousText} is the text it was indexed with, see {@link #text(SupportTicket)}. */
+    public void update(SupportTicket ticket, String previousText) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(ticket.getTicketId(), previousText);
+            addDocument(ticket.getTicketId(), text(ticket));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Ticket ids for the best {@code limit} matches, best first. */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || liveDocs == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLength / liveDocs;
+            float[] scores = borrowAccumulator();
+            int[] touched = new int[64];
+            int touchedCount = 0;
+            try {
+                for (String term : terms) {
+                    Postings list = postings.get(term);
+                    if (list == null) {
+                        continue;
+                    }
+                    float idf = (float) Math.log(1 + (liveDocs - list.liveDocs + 0.5) / (list.liveDocs + 0.5));
+                    for (int i = 0; i < list.size; i++) {
+                        int doc = list.docs[i];
+                        if (deleted.get(doc)) {
+                            continue;
+                        }
+                        int tf = list.freqs[i];
+                        float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                        if (scores[doc] == 0) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, touchedCount * 2);
+                            }
+                            touched[touchedCount++] = doc;
+                        }
+                        scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                    }
+                }
+
+                // Min-heap of the best documents seen so far
+                PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1,
+                        (a, b) -> Float.compare(scores[a], scores[b]));
+                for (int i = 0; i < touchedCount; i++) {
+                    int doc = touched[i];
+                    if (best.size() < limit) {
+                        best.add(doc);
+                    } else if (scores[doc] > scores[best.peek()]) {
+                        best.poll();
+                        best.add(doc);
+                    }
+                }
+                Long[] ranked = new Long[best.size()];
+                for (int i = ranked.length - 1; i >= 0; i--) {
+                    ranked[i] = ticketIds[best.poll()];
+                }
+                return Arrays.asList(ranked);
+            } finally {
+                // Only touched entries are non-zero, so clearing them leaves the accumulator all zeros
+                for (int i = 0; i < touchedCount; i++) {
+                    scores[touched[i]] = 0;
+                }
+                returnAccumulator(scores);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Number of ordinals handed out, live or deleted
+    int ordinals() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String text(SupportTicket ticket) {
+        return text(ticket.getIssueDescription(), ticket.getResolutionNotes());
+    }
+
+    private static String text(String description, String resolutionNotes) {
+        if (resolutionNotes == null || resolutionNotes.isEmpty()) {
+            return description != null ? description : "";
+        }
+        return (description != null ? description : "") + " " + resolutionNotes;
+    }
+
+    private void addDocument(Long ticketId, String text) {
+        List<String> tokens = tokenize(text);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        int doc = docCount++;
+        if (doc == ticketIds.length) {
+            ticketIds = Arrays.copyOf(ticketIds, doc * 2);
+            docLengths = Arrays.copyOf(docLengths, doc * 2);
+        }
+        ticketIds[doc] = ticketId;
+        docLengths[doc] = tokens.size();
+        docByTicket.put(ticketId, doc);
+        liveDocs++;
+        totalLength += tokens.size();
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue());
+        }
+    }
+
+    private void removeDocument(Long ticketId, String text) {
+        Integer doc = docByTicket.remove(ticketId);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        liveDocs--;
+        totalLength -= docLengths[doc];
+        for (String term : new LinkedHashSet<>(tokenize(text))) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            list.liveDocs--;
+            if (list.liveDocs <= 0) {
+                postings.remove(term);
+            } else if (list.size - list.liveDocs > list.size / 2) {
+                list.compact(deleted);
+            }
+        }
+        if (docCount - liveDocs > liveDocs) {
+            renumber();
+        }
+    }
+
+    // Gives the live documents consecutive ordinals, keeping their order so postings stay sorted
+    private void renumber() {
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = live;
+                ticketIds[live] = ticketIds[doc];
+                docLengths[live] = docLengths[doc];
+                live++;
+            }
+        }
+        for (Postings list : postings.values()) {
+            list.renumber(remap);
+        }
+        docByTicket.replaceAll((ticketId, doc) -> remap[doc]);
+        deleted.clear();
+        docCount = live;
+
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(live, 1)) * 2);
+        if (capacity < ticketIds.length) {
+            ticketIds = Arrays.copyOf(ticketIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+    }
+
+    // Called under the read lock, so the capacity cannot change while the accumulator is in use
+    private float[] borrowAccumulator() {
+        float[] scores;
+        while ((scores = accumulators.poll()) != null) {
+            pooledAccumulators.decrementAndGet();
+            // Sized for an earlier capacity; let it go
+            if (scores.length == ticketIds.length) {
+                return scores;
+            }
+        }
+        return new float[ticketIds.length];
+    }
+
+    private void returnAccumulator(float[] scores) {
+        if (scores.length != ticketIds.length) {
+            return;
+        }
+        if (pooledAccumulators.incrementAndGet() <= MAX_POOLED_ACCUMULATORS) {
+            accumulators.offer(scores);
+        } else {
+            pooledAccumulators.decrementAndGet();
+        }
+    }
+
+    // Lower-cased runs of letters and digits, minus very short tokens and stop words
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    String token = text.substring(start, i).toLowerCase(Locale.ROOT);
+                    if (!STOP_WORDS.contains(token)) {
+                        tokens.add(token);
+                    }
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int liveDocs;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            liveDocs++;
+        }
+
+        void compact(BitSet deleted) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!deleted.get(docs[i])) {
+                    docs[kept] = docs[i];
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            liveDocs = kept;
+        }
+
+        void renumber(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            liveDocs = kept;
+        }
+    }
+}
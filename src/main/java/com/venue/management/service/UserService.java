@@ -1,6 +1,9 @@
 package com.venue.management.service;
 
 import com.venue.management.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.Optional;
 
 /**
@@ -9,4 +12,9 @@ import java.util.Optional;
 public interface UserService {
     User registerUser(User user);
     Optional<User> findByUsername(String username);
+    User updatePassword(String username, String encodedPassword);
+    boolean approveManager(Long userId);
+    boolean rejectManager(Long userId);
+    Page<User> getPendingManagers(Pageable pageable);
+    long countPendingManagers();
 }
@@ -0,0 +1,157 @@
+package com.venue.management.service;
+
+import com.venue.management.entity.Booking;
+import com.venue.management.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-venue index of booked date ranges, used by the calendar and
+ * booking suggestions. It is per instance and only hears about changes made
+ * here, so booking admission checks the database instead.
+ *
+ * Each venue keeps its active (non-cancelled) bookings in a TreeMap keyed by
+ * start date, together with the longest booking span seen for that venue. Any
+ * booking overlapping [start, end] must start within [start - longestSpan, end],
+ * so re-marking days after a removal is a log-time seek plus a walk over that
+ * narrow window.
+ *
+ * Each venue also keeps a day-granularity BitSet of occupied days (bit 0 is
+ * 2000-01-01) for calendar queries that look at many days at once.
+ */
+@Component
+public class VenueAvailabilityIndex {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final Map<Long, VenueSlots> venues = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        venues.clear();
+        List<Object[]> ranges = bookingRepository.findActiveBookingRanges();
+        for (Object[] row : ranges) {
+            add((Long) row[1], (Long) row[0], (LocalDate) row[2], (LocalDate) row[3]);
+        }
+    }
+
+    public void add(Booking booking) {
+        add(booking.getVenue().getVenueId(), booking.getBookingId(), booking.getEventDate(), booking.getEndDate());
+    }
+
+    public void remove(Booking booking) {
+        VenueSlots slots = venues.get(booking.getVenue().getVenueId());
+        if (slots != null) {
+            slots.remove(booking.getBookingId(), booking.getEventDate());
+        }
+    }
+
+    /**
+     * Occupied days in [from, to]: bit i is set when day from + i is booked.
+     */
+    public BitSet occupiedDays(Long venueId, LocalDate from, LocalDate to) {
+        VenueSlots slots = venues.get(venueId);
+        return slots != null ? slots.occupied(from, to) : new BitSet();
+    }
+
+    public void reloadVenues(Collection<Long> venueIds) {
+        venueIds.forEach(venues::remove);
+        for (Object[] row : bookingRepository.findActiveBookingRangesByVenueIds(venueIds)) {
+            add((Long) row[1], (Long) row[0], (LocalDate) row[2], (LocalDate) row[3]);
+        }
+    }
+
+    public void evictVenue(Long venueId) {
+        venues.remove(venueId);
+    }
+
+    private void add(Long venueId, Long bookingId, LocalDate start, LocalDate end) {
+        venues.computeIfAbsent(venueId, id -> new VenueSlots())
+                .add(bookingId, start, end != null ? end : start);
+    }
+
+    private static final class VenueSlots {
+
+        private static final LocalDate BASE_DATE = LocalDate.of(2000, 1, 1);
+
+        // start date -> (booking id -> end date); several bookings may share a start date
+        private final NavigableMap<LocalDate, Map<Long, LocalDate>> byStart = new TreeMap<>();
+
+        // Days before the base date are never marked and read as free
+        private final BitSet occupiedDays = new BitSet();
+
+        private long longestSpanDays;
+
+        synchronized void add(Long bookingId, LocalDate start, LocalDate end) {
+            byStart.computeIfAbsent(start, d -> new HashMap<>(2)).put(bookingId, end);
+            longestSpanDays = Math.max(longestSpanDays, ChronoUnit.DAYS.between(start, end));
+            mark(start, end);
+        }
+
+        synchronized void remove(Long bookingId, LocalDate start) {
+            Map<Long, LocalDate> sameStart = byStart.get(start);
+            if (sameStart == null) {
+                return;
+            }
+            LocalDate end = sameStart.remove(bookingId);
+            if (sameStart.isEmpty()) {
+                byStart.remove(start);
+            }
+            if (end != null && !end.isBefore(BASE_DATE)) {
+                occupiedDays.clear(bit(start), bit(end) + 1);
+                // Re-mark any remaining booking that shares some of those days
+                for (Map.Entry<LocalDate, Map<Long, LocalDate>> others
+                        : byStart.subMap(start.minusDays(longestSpanDays), true, end, true).entrySet()) {
+                    for (LocalDate otherEnd : others.getValue().values()) {
+                        if (!otherEnd.isBefore(start)) {
+                            mark(others.getKey(), otherEnd);
+                        }
+                    }
+                }
+            }
+        }
+
+        synchronized BitSet occupied(LocalDate from, LocalDate to) {
+            if (to.isBefore(BASE_DATE)) {
+                return new BitSet();
+            }
+            int fromBit = bit(from);
+            int toBit = bit(to) + 1;
+            int offset = (int) (BASE_DATE.toEpochDay() - from.toEpochDay());
+            if (offset <= 0) {
+                return occupiedDays.get(fromBit, toBit);
+            }
+            // Range starts before the base date: shift the stored bits right by the gap
+            BitSet shifted = new BitSet();
+            BitSet stored = occupiedDays.get(0, toBit);
+            for (int i = stored.nextSetBit(0); i >= 0; i = stored.nextSetBit(i + 1)) {
+                shifted.set(i + offset);
+            }
+            return shifted;
+        }
+
+        private void mark(LocalDate start, LocalDate end) {
+            if (!end.isBefore(BASE_DATE)) {
+                occupiedDays.set(bit(start), bit(end) + 1);
+            }
+        }
+
+        private static int bit(LocalDate date) {
+            return (int) Math.max(0, date.toEpochDay() - BASE_DATE.toEpochDay());
+        }
+    }
+}
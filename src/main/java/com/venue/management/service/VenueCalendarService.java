@@ -0,0 +1,103 @@
+package com.venue.management.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calendar and occupancy views over many venues, answered from the occupied-day
+ * bitsets kept by {@link VenueAvailabilityIndex} rather than per-venue queries.
+ */
+@Service
+public class VenueCalendarService {
+
+    private static final int SEARCH_RADIUS_DAYS = 180;
+
+    @Autowired
+    private VenueAvailabilityIndex availabilityIndex;
+
+    public record DateRange(LocalDate start, LocalDate end) {
+    }
+
+    /** Free windows in [from, to] for each venue, in the order the ids were given. */
+    public Map<Long, List<DateRange>> freeWindows(List<Long> venueIds, LocalDate from, LocalDate to) {
+        int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+        Map<Long, List<DateRange>> result = new LinkedHashMap<>();
+        for (Long venueId : venueIds) {
+            BitSet occupied = availabilityIndex.occupiedDays(venueId, from, to);
+            List<DateRange> windows = new ArrayList<>();
+            int start = occupied.nextClearBit(0);
+            while (start < days) {
+                int nextBooked = occupied.nextSetBit(start);
+                int end = nextBooked < 0 ? days : Math.min(nextBooked, days);
+                windows.add(new DateRange(from.plusDays(start), from.plusDays(end - 1)));
+                start = occupied.nextClearBit(end);
+            }
+            result.put(venueId, windows);
+        }
+        return result;
+    }
+
+    /**
+     * Up to {@code limit} free windows with the same length as [start, end],
+     * nearest to the requested start first, never starting before {@code notBefore}.
+     */
+    public List<DateRange> nearestFreeWindows(Long venueId, LocalDate start, LocalDate end, int limit,
+                                              LocalDate notBefore) {
+        int length = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        LocalDate searchFrom = start.minusDays(SEARCH_RADIUS_DAYS);
+        if (searchFrom.isBefore(notBefore)) {
+            searchFrom = notBefore;
+        }
+        LocalDate searchTo = end.plusDays(SEARCH_RADIUS_DAYS);
+        BitSet occupied = availabilityIndex.occupiedDays(venueId, searchFrom, searchTo);
+
+        int lastStart = (int) ChronoUnit.DAYS.between(searchFrom, searchTo) + 1 - length;
+        int origin = (int) Math.max(0, ChronoUnit.DAYS.between(searchFrom, start));
+        List<DateRange> windows = new ArrayList<>(limit);
+        for (int distance = 0; distance <= SEARCH_RADIUS_DAYS && windows.size() < limit; distance++) {
+            // Earlier candidate first when two are equally near
+            int[] candidates = distance == 0 ? new int[] {origin} : new int[] {origin - distance, origin + distance};
+            for (int candidate : candidates) {
+                if (candidate < 0 || candidate > lastStart || windows.size() >= limit) {
+                    continue;
+                }
+                int nextBooked = occupied.nextSetBit(candidate);
+                if (nextBooked < 0 || nextBooked >= candidate + length) {
+                    windows.add(new DateRange(searchFrom.plusDays(candidate), searchFrom.plusDays(candidate + length - 1)));
+                }
+            }
+        }
+        return windows;
+    }
+
+    /** Percentage of booked days per month of the year (index 0 is January) for each venue. */
+    public Map<Long, double[]> monthlyOccupancy(List<Long> venueIds, int year) {
+        LocalDate yearStart = LocalDate.of(year, 1, 1);
+        LocalDate yearEnd = LocalDate.of(year, 12, 31);
+        int[] monthStart = new int[13];
+        for (int m = 1; m <= 12; m++) {
+            monthStart[m] = monthStart[m - 1] + YearMonth.of(year, m).lengthOfMonth();
+        }
+
+        Map<Long, double[]> result = new LinkedHashMap<>();
+        for (Long venueId : venueIds) {
+            BitSet occupied = availabilityIndex.occupiedDays(venueId, yearStart, yearEnd);
+            double[] percent = new double[12];
+            for (int m = 0; m < 12; m++) {
+                int booked = occupied.get(monthStart[m], monthStart[m + 1]).cardinality();
+                percent[m] = 100.0 * booked / (monthStart[m + 1] - monthStart[m]);
+            }
+            result.put(venueId, percent);
+        }
+        return result;
+    }
+}
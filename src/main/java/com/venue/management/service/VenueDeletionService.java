@@ -0,0 +1,205 @@
+package com.venue.management.service;
+
+import com.venue.management.config.AsyncConfig;
+import com.venue.management.config.CacheConfig;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.PaymentRepository;
+import com.venue.management.repository.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes a venue together with its bookings and their payments.
+ *
+ * Rows go in chunks of booking ids, each chunk in its own short transaction:
+ * payments first, then the bookings. The venue row is locked only for the
+ * final step, which also sweeps up bookings created while the chunks ran.
+ * Large deletions can run as background jobs whose progress is kept here.
+ */
+@Service
+public class VenueDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueDeletionService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final long FINISHED_JOB_RETENTION_MINUTES = 60;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private VenueAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier(AsyncConfig.VENUE_DELETION_EXECUTOR)
+    private TaskExecutor executor;
+
+    private final Map<String, DeletionJob> jobs = new ConcurrentHashMap<>();
+
+    public enum JobStatus { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    public record JobProgress(String jobId, Long venueId, JobStatus status, long totalBookings,
+                              long deletedBookings, long deletedPayments, String error,
+                              LocalDateTime startedAt, LocalDateTime finishedAt) {
+    }
+
+    /** Deletes on the calling thread. */
+    public void deleteVenue(Long venueId) {
+        if (!venueRepository.existsById(venueId)) {
+            throw new RuntimeException("Venue not found");
+        }
+        cascade(venueId, new DeletionJob(null, venueId));
+    }
+
+    /**
+     * Queues the deletion and returns its job id. {@code afterDelete} runs on
+     * the worker once the venue row is gone, before the job is reported
+     * completed; if it fails the failure is logged and the job still
+     * completes, since the venue is already deleted.
+     */
+    public String startDeletion(Long venueId, Runnable afterDelete) {
+        if (!venueRepository.existsById(venueId)) {
+            throw new RuntimeException("Venue not found");
+        }
+        pruneFinishedJobs();
+        DeletionJob job = new DeletionJob(UUID.randomUUID().toString(), venueId);
+        jobs.put(job.id, job);
+        Runnable task = () -> {
+            job.status = JobStatus.RUNNING;
+            JobStatus outcome = JobStatus.COMPLETED;
+            try {
+                cascade(venueId, job);
+                runAfterDelete(venueId, afterDelete);
+            } catch (RuntimeException e) {
+                job.error = e.getMessage();
+                outcome = JobStatus.FAILED;
+            } finally {
+                // Finish time first, so a poller that sees the final status also sees when it ended
+                job.finishedAt = LocalDateTime.now();
+                job.status = outcome;
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw new RuntimeException("Too many venue deletions are queued, try again later");
+        }
+        return job.id;
+    }
+
+    /** Progress of a job, empty when the id is unknown or the finished job has been pruned. */
+    public Optional<JobProgress> getProgress(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(DeletionJob::snapshot);
+    }
+
+    // The venue is already gone, so a failing clean-up is logged rather than failing the job
+    private static void runAfterDelete(Long venueId, Runnable afterDelete) {
+        if (afterDelete == null) {
+            return;
+        }
+        try {
+            afterDelete.run();
+        } catch (RuntimeException e) {
+            log.warn("Clean-up after deleting venue {} failed", venueId, e);
+        }
+    }
+
+    private void cascade(Long venueId, DeletionJob job) {
+        job.totalBookings = bookingRepository.countByVenue_VenueId(venueId);
+        boolean more = true;
+        while (more) {
+            // Each chunk commits on its own so row locks are held only briefly
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteChunk(venueId, job)));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Same lock as createBooking: no new booking can arrive between the final sweep and the delete
+            venueRepository.findByIdForUpdate(venueId)
+                    .orElseThrow(() -> new RuntimeException("Venue not found"));
+            // Normally nothing is left; this catches bookings made while the chunks ran
+            boolean remaining = true;
+            while (remaining) {
+                remaining = deleteChunk(venueId, job);
+            }
+            venueRepository.deleteById(venueId);
+        });
+
+        availabilityIndex.evictVenue(venueId);
+        pricingEngine.evict(venueId);
+        Cache venues = cacheManager.getCache(CacheConfig.VENUE_CACHE);
+        if (venues != null) {
+            venues.clear();
+        }
+    }
+
+    // Returns whether a chunk was deleted, i.e. whether there may be more
+    private boolean deleteChunk(Long venueId, DeletionJob job) {
+        List<Long> bookingIds = bookingRepository.findIdsByVenueId(venueId, PageRequest.of(0, CHUNK_SIZE));
+        if (bookingIds.isEmpty()) {
+            return false;
+        }
+        job.deletedPayments.addAndGet(paymentRepository.deleteByBookingIds(bookingIds));
+        job.deletedBookings.addAndGet(bookingRepository.deleteByBookingIds(bookingIds));
+        return true;
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(FINISHED_JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class DeletionJob {
+        private final String id;
+        private final Long venueId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong deletedBookings = new AtomicLong();
+        private final AtomicLong deletedPayments = new AtomicLong();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile long totalBookings;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        DeletionJob(String id, Long venueId) {
+            this.id = id;
+            this.venueId = venueId;
+        }
+
+        JobProgress snapshot() {
+            return new JobProgress(id, venueId, status, totalBookings, deletedBookings.get(),
+                    deletedPayments.get(), error, startedAt, finishedAt);
+        }
+    }
+}
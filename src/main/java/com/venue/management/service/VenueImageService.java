@@ -0,0 +1,256 @@
+package com.venue.management.service;
+
+import com.venue.management.config.ImageConfig;
+import com.venue.management.repository.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stores venue images in the external image directory and builds their
+ * thumbnails in the background.
+ *
+ * Files are named by the SHA-256 of their content, so a name never changes
+ * meaning and can be cached forever; the hash doubles as the HTTP ETag. The
+ * extension comes from the file's signature, not the client's file name, and
+ * uploads that are not one of the served image types are rejected.
+ *
+ * Uploads are written and synced before the request returns; the thumbnail is
+ * generated on the bounded image executor and recorded on the venue when ready.
+ * Until then, pages fall back to the original image.
+ */
+@Service
+public class VenueImageService {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueImageService.class);
+
+    private static final String URL_PREFIX = "/images/";
+    private static final String THUMBNAIL_DIR = "thumbs";
+    private static final float THUMBNAIL_QUALITY = 0.8f;
+
+    /** Extensions of the image types that are stored and served, with their content types. */
+    public static final Map<String, String> IMAGE_TYPES = Map.of(
+            "jpg", MediaType.IMAGE_JPEG_VALUE,
+            "jpeg", MediaType.IMAGE_JPEG_VALUE,
+            "png", MediaType.IMAGE_PNG_VALUE,
+            "gif", MediaType.IMAGE_GIF_VALUE,
+            "webp", "image/webp",
+            "bmp", "image/bmp");
+
+    // Enough leading bytes to tell the stored types apart (WebP needs 12)
+    private static final int SIGNATURE_LENGTH = 12;
+
+    @Value("${venue.images.dir}")
+    private String imageDir;
+
+    @Value("${venue.images.thumbnail-width:480}")
+    private int thumbnailWidth;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    /** Writes the upload durably and returns its public path. */
+    public String store(MultipartFile file) throws IOException {
+        Path dir = root();
+        Files.createDirectories(dir);
+
+        try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+            in.mark(SIGNATURE_LENGTH);
+            String extension = sniffExtension(in.readNBytes(SIGNATURE_LENGTH));
+            in.reset();
+            if (extension == null) {
+                throw new IllegalArgumentException("Unsupported image type; upload a JPEG, PNG, GIF, WebP or BMP file");
+            }
+            return URL_PREFIX + writeAtomically(dir, "." + extension, in);
+        }
+    }
+
+    /** Content type for a stored file name, or null when its extension is not an image type. */
+    public static String contentType(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? null : IMAGE_TYPES.get(filename.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /** The stored file for a public path, or null when it is not in the store. */
+    public Path locate(String relativePath) {
+        Path path = root().resolve(relativePath).normalize();
+        return path.startsWith(root()) && Files.isRegularFile(path) ? path : null;
+    }
+
+    @Async(ImageConfig.IMAGE_EXECUTOR)
+    public void generateVariants(Long venueId, String imagePath) {
+        try {
+            BufferedImage original = ImageIO.read(resolve(imagePath).toFile());
+            if (original == null) {
+                // Not a format ImageIO can decode; the original keeps being served
+                return;
+            }
+            Path dir = root().resolve(THUMBNAIL_DIR);
+            Files.createDirectories(dir);
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(encoded)) {
+                writeJpeg(scale(original), out);
+            }
+            String filename = writeAtomically(dir, ".jpg", new ByteArrayInputStream(encoded.toByteArray()));
+
+            String thumbnailPath = URL_PREFIX + THUMBNAIL_DIR + "/" + filename;
+            if (!venueService.updateThumbnail(venueId, imagePath, thumbnailPath)) {
+                // The venue got a newer image (or was deleted) while this one was being processed
+                delete(thumbnailPath);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Error generating thumbnail for venue {} from {}", venueId, imagePath, e);
+        }
+    }
+
+    public void delete(String imagePath) {
+        try {
+            // Identical uploads share one file, so keep it while any venue still refers to it
+            if (imagePath != null && imagePath.startsWith(URL_PREFIX)
+                    && !venueRepository.existsByImagePathOrThumbnailPath(imagePath, imagePath)) {
+                Files.deleteIfExists(resolve(imagePath));
+            }
+        } catch (IOException e) {
+            // Log error but don't fail the delete operation
+            log.warn("Error deleting image file {}", imagePath, e);
+        }
+    }
+
+    private Path root() {
+        return Paths.get(imageDir).toAbsolutePath().normalize();
+    }
+
+    private Path resolve(String imagePath) {
+        Path path = root().resolve(imagePath.substring(URL_PREFIX.length())).normalize();
+        if (!path.startsWith(root())) {
+            throw new RuntimeException("Invalid image path");
+        }
+        return path;
+    }
+
+    // Copy to a temp file while hashing, sync it, then rename so readers never see a partial image.
+    // Returns the content-hash file name.
+    private static String writeAtomically(Path dir, String extension, InputStream in) throws IOException {
+        Path tmp = Files.createTempFile(dir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            Files.copy(new DigestInputStream(in, digest), tmp, StandardCopyOption.REPLACE_EXISTING);
+            String filename = HexFormat.of().formatHex(digest.digest()) + extension;
+            Path target = dir.resolve(filename);
+            if (!Files.exists(target)) {
+                try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return filename;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // Extension for the image type the leading bytes identify, or null for anything else
+    private static String sniffExtension(byte[] head) {
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+            return "jpg";
+        }
+        if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "png";
+        }
+        if (startsWith(head, 0, 'G', 'I', 'F', '8') && head.length >= 6
+                && (head[4] == '7' || head[4] == '9') && head[5] == 'a') {
+            return "gif";
+        }
+        if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) {
+            return "webp";
+        }
+        if (startsWith(head, 0, 'B', 'M')) {
+            return "bmp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, int... signature) {
+        if (head.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BufferedImage scale(BufferedImage original) {
+        int width = Math.min(thumbnailWidth, original.getWidth());
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha channel, so transparent areas become white
+            g.drawImage(original, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static void writeJpeg(BufferedImage image, ImageOutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(THUMBNAIL_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
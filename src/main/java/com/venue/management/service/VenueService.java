@@ -1,6 +1,10 @@
 package com.venue.management.service;
 
 import com.venue.management.entity.Venue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,5 +13,8 @@ public interface VenueService {
     Optional<Venue> getVenueById(Long id);
     Venue saveVenue(Venue venue);
     void deleteVenue(Long id);
+    boolean updateThumbnail(Long venueId, String imagePath, String thumbnailPath);
     List<Venue> getAvailableVenues();
+    Page<Venue> searchVenues(String location, Integer minCapacity, Integer maxCapacity, Double minPrice,
+                             Double maxPrice, String status, LocalDate freeFrom, LocalDate freeTo, Pageable pageable);
 }
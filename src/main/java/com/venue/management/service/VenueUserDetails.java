@@ -0,0 +1,50 @@
+package com.venue.management.service;
+
+import com.venue.management.entity.Role;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+
+/**
+ * Authenticated principal that also carries the domain user's id and role,
+ * so request handling can identify the user without reloading it.
+ */
+public class VenueUserDetails extends User {
+
+    private final Long userId;
+    private final Role role;
+
+    public VenueUserDetails(com.venue.management.entity.User user) {
+        super(user.getUsername(),
+                user.getPassword(),
+                user.isEnabled(), // enabled
+                true, // accountNonExpired
+                true, // credentialsNonExpired
+                true, // accountNonLocked
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+        this.userId = user.getUserId();
+        this.role = user.getRole();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Detached stand-in for the domain user, usable as an association target or
+     * query parameter. Only id, username, role and enabled are set.
+     */
+    public com.venue.management.entity.User toUser() {
+        com.venue.management.entity.User user = new com.venue.management.entity.User();
+        user.setUserId(userId);
+        user.setUsername(getUsername());
+        user.setRole(role);
+        user.setEnabled(isEnabled());
+        return user;
+    }
+}
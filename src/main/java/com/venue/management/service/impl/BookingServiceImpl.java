@@ -1,13 +1,32 @@
 package com.venue.management.service.impl;
 
 import com.venue.management.entity.Booking;
+import com.venue.management.entity.Role;
 import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
 import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.VenueRepository;
+import com.venue.management.service.BookingConflictException;
 import com.venue.management.service.BookingService;
+import com.venue.management.service.BookingSuggestions;
 import com.venue.management.service.PaymentService;
+import com.venue.management.service.VenueAvailabilityIndex;
+import com.venue.management.service.VenueCalendarService;
+import com.venue.management.service.VenueService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
@@ -16,9 +35,24 @@ public class BookingServiceImpl implements BookingService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private VenueRepository venueRepository;
+
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private VenueAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private VenueCalendarService venueCalendarService;
+
+    @Autowired
+    private VenueService venueService;
+
+    // Similar venues: same location prefix, capacity and price within this fraction of the requested venue
+    private static final double SIMILARITY_TOLERANCE = 0.25;
+
     @Override
     public List<Booking> getAllBookings() {
         return bookingRepository.findAll();
@@ -30,47 +64,137 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    public Booking getBookingById(Long id, User requester) {
+        Booking booking = bookingRepository.findWithUserAndVenueByBookingId(id)
+                .orElseThrow(() -> new RuntimeException("Booking not found"));
+        // Customers may only act on their own bookings
+        if (requester.getRole() == Role.CUSTOMER
+                && !booking.getUser().getUserId().equals(requester.getUserId())) {
+            throw new AccessDeniedException("Booking does not belong to the current user");
+        }
+        return booking;
+    }
+
+    @Override
+    public Page<Booking> searchBookings(Long venueId, String status, LocalDate from, LocalDate to, Long userId,
+                                        Pageable pageable) {
+        return bookingRepository.search(venueId, status, from, to, userId, pageable);
+    }
+
+    @Override
+    public List<Booking> searchBookingsBefore(Long venueId, String status, LocalDate from, LocalDate to,
+                                              Long userId, Long beforeId, int size) {
+        return bookingRepository.searchBefore(venueId, status, from, to, userId, beforeId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<Booking> searchBookingsAfter(Long venueId, String status, LocalDate from, LocalDate to,
+                                             Long userId, Long afterId, int size) {
+        List<Booking> bookings = new ArrayList<>(
+                bookingRepository.searchAfter(venueId, status, from, to, userId, afterId, PageRequest.of(0, size)));
+        // Fetched oldest-first to seek from the cursor; the listing shows newest first
+        Collections.reverse(bookings);
+        return bookings;
+    }
+
+    @Override
+    @Transactional
     public Booking createBooking(Booking booking) {
-        // Check for date range conflicts
-        List<Booking> allBookings = bookingRepository.findAll();
-        boolean conflict = allBookings.stream()
-                .anyMatch(b -> b.getVenue().getVenueId().equals(booking.getVenue().getVenueId()) &&
-                               !"CANCELLED".equals(b.getStatus()) &&
-                               isDateRangeOverlapping(
-                                   booking.getEventDate(), 
-                                   booking.getEndDate(),
-                                   b.getEventDate(),
-                                   b.getEndDate() != null ? b.getEndDate() : b.getEventDate()
-                               ));
-        
-        if (conflict) {
-            throw new RuntimeException("Venue is already booked for the selected date range.");
+        Long venueId = booking.getVenue().getVenueId();
+
+        // Hold the venue row until commit so concurrent requests for the same
+        // venue are admitted one at a time; other venues are not blocked
+        venueRepository.findByIdForUpdate(venueId)
+                .orElseThrow(() -> new RuntimeException("Venue not found"));
+
+        // The indexed overlap query decides; the in-memory index is per instance and
+        // may not have seen bookings or cancellations made on other instances
+        boolean available = bookingRepository.countOverlappingBookings(
+                venueId, booking.getEventDate(), booking.getEndDate()) == 0;
+
+        if (!available) {
+            throw new BookingConflictException("Venue is already booked for the selected date range.");
         }
         booking.setStatus("PENDING");
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        afterCommit(() -> availabilityIndex.add(saved));
+        return saved;
+    }
+
+    @Override
+    public BookingSuggestions suggestAlternatives(Venue venue, LocalDate start, LocalDate end, int limit) {
+        LocalDate last = end != null ? end : start;
+        List<VenueCalendarService.DateRange> dates = venueCalendarService.nearestFreeWindows(
+                venue.getVenueId(), start, last, limit, LocalDate.now());
+
+        // One search query: the anti-join keeps only venues free on the requested dates,
+        // and capacity is bounded both ways so a small event isn't offered a stadium
+        List<Venue> similar = new ArrayList<>(limit);
+        for (Venue candidate : venueService.searchVenues(venue.getLocation(),
+                (int) Math.floor(venue.getCapacity() * (1 - SIMILARITY_TOLERANCE)),
+                (int) Math.ceil(venue.getCapacity() * (1 + SIMILARITY_TOLERANCE)),
+                venue.getPricePerDay() * (1 - SIMILARITY_TOLERANCE),
+                venue.getPricePerDay() * (1 + SIMILARITY_TOLERANCE),
+                "AVAILABLE", start, last, PageRequest.of(0, limit + 1))) {
+            if (!candidate.getVenueId().equals(venue.getVenueId()) && similar.size() < limit) {
+                similar.add(candidate);
+            }
+        }
+        return new BookingSuggestions(dates, similar);
     }
 
-    private boolean isDateRangeOverlapping(java.time.LocalDate start1, java.time.LocalDate end1,
-                                          java.time.LocalDate start2, java.time.LocalDate end2) {
-        return !start1.isAfter(end2) && !end1.isBefore(start2);
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
+    // READ_COMMITTED: the booking is read before the venue lock is taken, and under
+    // REPEATABLE READ that first read would pin the snapshot the overlap check sees,
+    // hiding bookings committed while this transaction waited for the lock
     @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Booking updateStatus(Long id, String status) {
         Booking booking = bookingRepository.findById(id).orElseThrow();
         String oldStatus = booking.getStatus();
-        booking.setStatus(status);
-        
-        // If booking is cancelled and payment exists, mark payment as refunded
-        if ("CANCELLED".equals(status) && !"CANCELLED".equals(oldStatus)) {
-            try {
-                paymentService.refundPayment(id);
-            } catch (Exception e) {
-                // Log error but don't fail the booking cancellation
-                System.err.println("Error refunding payment for booking " + id + ": " + e.getMessage());
+        boolean cancelling = "CANCELLED".equals(status) && !"CANCELLED".equals(oldStatus);
+        boolean reinstating = !"CANCELLED".equals(status) && "CANCELLED".equals(oldStatus);
+
+        if (reinstating) {
+            // A cancelled booking gave up its dates; taking them back goes through the
+            // same venue lock and overlap check as a new booking. The check runs before
+            // the status change so the query's auto-flush does not count this booking.
+            Long venueId = booking.getVenue().getVenueId();
+            venueRepository.findByIdForUpdate(venueId)
+                    .orElseThrow(() -> new RuntimeException("Venue not found"));
+            boolean available = bookingRepository.countOverlappingBookings(
+                    venueId, booking.getEventDate(), booking.getEndDate()) == 0;
+            if (!available) {
+                throw new BookingConflictException("Venue is already booked for the selected date range.");
             }
         }
-        
-        return bookingRepository.save(booking);
+
+        booking.setStatus(status);
+
+        // If booking is cancelled and payment exists, mark payment as refunded.
+        // The refund joins this transaction, so both commit or neither does.
+        if (cancelling) {
+            paymentService.refundPayment(id);
+        }
+
+        Booking saved = bookingRepository.save(booking);
+        if (cancelling) {
+            afterCommit(() -> availabilityIndex.remove(saved));
+        } else if (reinstating) {
+            afterCommit(() -> availabilityIndex.add(saved));
+        }
+        return saved;
     }
 }
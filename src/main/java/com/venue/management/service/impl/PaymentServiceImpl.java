@@ -6,10 +6,15 @@ import com.venue.management.entity.User;
 import com.venue.management.repository.BookingRepository;
 import com.venue.management.repository.PaymentRepository;
 import com.venue.management.service.PaymentService;
+import com.venue.management.service.PaymentSummary;
+import com.venue.management.service.PricingEngine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -22,21 +27,22 @@ public class PaymentServiceImpl implements PaymentService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private PricingEngine pricingEngine;
+
     @Override
     public Payment processPayment(Payment payment) {
-        Booking booking = bookingRepository.findById(payment.getBooking().getBookingId()).orElseThrow();
+        Booking booking = bookingRepository.findWithUserAndVenueByBookingId(payment.getBooking().getBookingId())
+                .orElseThrow();
         
         // Calculate total amount based on number of days
-        long days = java.time.temporal.ChronoUnit.DAYS.between(
-            booking.getEventDate(), 
-            booking.getEndDate()
-        ) + 1; // +1 to include both start and end dates
-        double totalAmount = booking.getVenue().getPricePerDay() * days;
+        BigDecimal totalAmount = pricingEngine.quote(
+            booking.getVenue().getVenueId(), booking.getEventDate(), booking.getEndDate());
         
         // Simulate payment success
         payment.setPaymentDate(LocalDateTime.now());
         payment.setPaymentStatus("SUCCESS");
-        payment.setPaymentAmount(totalAmount);
+        payment.setPaymentAmount(totalAmount.doubleValue());
         
         // Update booking status
         booking.setStatus("CONFIRMED");
@@ -60,6 +66,11 @@ public class PaymentServiceImpl implements PaymentService {
         return paymentRepository.findAll();
     }
 
+    @Override
+    public Page<Payment> getPayments(Pageable pageable) {
+        return paymentRepository.findAll(pageable);
+    }
+
     @Override
     @Transactional
     public void refundPayment(Long bookingId) {
@@ -98,4 +109,25 @@ public class PaymentServiceImpl implements PaymentService {
         Double total = paymentRepository.sumRefundedPayments();
         return total != null ? total : 0.0;
     }
+
+    @Override
+    public PaymentSummary getPaymentSummary() {
+        long successful = 0, pending = 0, refunded = 0;
+        double earnings = 0.0, refundedAmount = 0.0;
+        for (Object[] row : paymentRepository.summarizeByPaymentStatus()) {
+            String status = (String) row[0];
+            long count = ((Number) row[1]).longValue();
+            double sum = row[2] != null ? ((Number) row[2]).doubleValue() : 0.0;
+            if ("SUCCESS".equals(status)) {
+                successful = count;
+                earnings = sum;
+            } else if ("PENDING".equals(status)) {
+                pending = count;
+            } else if ("REFUNDED".equals(status)) {
+                refunded = count;
+                refundedAmount = sum;
+            }
+        }
+        return new PaymentSummary(successful, pending, refunded, earnings, refundedAmount);
+    }
 }
@@ -1,14 +1,22 @@
 package com.venue.management.service.impl;
 
+import com.venue.management.entity.Role;
 import com.venue.management.entity.SupportTicket;
 import com.venue.management.entity.User;
 import com.venue.management.repository.SupportTicketRepository;
 import com.venue.management.service.SupportTicketService;
+import com.venue.management.service.TicketSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class SupportTicketServiceImpl implements SupportTicketService {
@@ -16,6 +24,12 @@ public class SupportTicketServiceImpl implements SupportTicketService {
     @Autowired
     private SupportTicketRepository supportTicketRepository;
 
+    @Autowired
+    private TicketSearchIndex ticketSearchIndex;
+
+    @Value("${support.claim.lease-minutes:30}")
+    private long leaseMinutes;
+
     @Override
     public List<SupportTicket> getAllTickets() {
         return supportTicketRepository.findAll();
@@ -30,21 +44,70 @@ public class SupportTicketServiceImpl implements SupportTicketService {
     public SupportTicket createTicket(SupportTicket ticket) {
         ticket.setTicketStatus("OPEN");
         ticket.setCreatedDate(LocalDateTime.now());
-        return supportTicketRepository.save(ticket);
+        SupportTicket saved = supportTicketRepository.save(ticket);
+        ticketSearchIndex.add(saved);
+        return saved;
+    }
+
+    @Override
+    public List<SupportTicket> searchTickets(String query, int limit) {
+        List<Long> ranked = ticketSearchIndex.search(query, limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        // Load the matches in one query, then restore the ranking order
+        Map<Long, SupportTicket> byId = new HashMap<>();
+        for (SupportTicket ticket : supportTicketRepository.findByTicketIdIn(ranked)) {
+            byId.put(ticket.getTicketId(), ticket);
+        }
+        List<SupportTicket> tickets = new ArrayList<>(ranked.size());
+        for (Long id : ranked) {
+            SupportTicket ticket = byId.get(id);
+            if (ticket != null) {
+                tickets.add(ticket);
+            }
+        }
+        return tickets;
     }
 
     @Override
     public SupportTicket getTicketById(Long id) {
-        return supportTicketRepository.findById(id).orElseThrow();
+        return supportTicketRepository.findWithCustomerByTicketId(id).orElseThrow();
     }
 
     @Override
-    public SupportTicket resolveTicket(Long id, String resolutionNotes) {
+    @Transactional
+    public SupportTicket resolveTicket(Long id, String resolutionNotes, User resolver) {
         SupportTicket ticket = supportTicketRepository.findById(id).orElseThrow();
-        ticket.setTicketStatus("RESOLVED");
-        ticket.setResolvedDate(LocalDateTime.now());
-        ticket.setResolutionNotes(resolutionNotes);
-        return supportTicketRepository.save(ticket);
+        String indexedText = TicketSearchIndex.text(ticket);
+        // Conditional update, so a second resolver cannot overwrite the first one's notes
+        if (supportTicketRepository.resolveIfClaimable(id, resolver, LocalDateTime.now(), resolutionNotes) == 0) {
+            throw new RuntimeException("RESOLVED".equals(ticket.getTicketStatus())
+                    ? "This ticket is already resolved."
+                    : "This ticket is claimed by another staff member.");
+        }
+        SupportTicket saved = supportTicketRepository.findWithCustomerByTicketId(id).orElseThrow();
+        ticketSearchIndex.update(saved, indexedText);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Optional<SupportTicket> claimNextTicket(User staff) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Long> next = supportTicketRepository.findNextClaimableId(now, staff.getRole() == Role.ADMIN);
+        if (next.isEmpty()) {
+            return Optional.empty();
+        }
+        // The row stays locked by the SKIP LOCKED select until this transaction commits
+        supportTicketRepository.assign(next.get(), staff, now.plusMinutes(leaseMinutes));
+        return supportTicketRepository.findWithCustomerByTicketId(next.get());
+    }
+
+    @Override
+    @Transactional
+    public boolean releaseTicket(Long id, User staff) {
+        return supportTicketRepository.release(id, staff) > 0;
     }
     
     @Override
@@ -1,9 +1,16 @@
 package com.venue.management.service.impl;
 
+import com.venue.management.config.CacheConfig;
+import com.venue.management.entity.Role;
 import com.venue.management.entity.User;
 import com.venue.management.repository.UserRepository;
 import com.venue.management.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +26,7 @@ public class UserServiceImpl implements UserService {
     private PasswordEncoder passwordEncoder;
 
     @Override
+    @CacheEvict(value = CacheConfig.PENDING_APPROVALS_CACHE, allEntries = true)
     public User registerUser(User user) {
         if (userRepository.findByUsername(user.getUsername()).isPresent()) {
             throw new RuntimeException("Username already exists");
@@ -28,7 +36,7 @@ public class UserServiceImpl implements UserService {
         }
         user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-        if (user.getRole() == com.venue.management.entity.Role.EVENT_MANAGER) {
+        if (user.getRole() == Role.EVENT_MANAGER) {
             user.setEnabled(false);
         } else {
             user.setEnabled(true);
@@ -38,7 +46,58 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Cacheable(value = CacheConfig.USER_CACHE, unless = "#result == null")
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
+
+    @Override
+    @CacheEvict(value = CacheConfig.USER_CACHE, key = "#username")
+    public User updatePassword(String username, String encodedPassword) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        user.setPassword(encodedPassword);
+        return userRepository.save(user);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.USER_CACHE, allEntries = true),
+            @CacheEvict(value = CacheConfig.PENDING_APPROVALS_CACHE, allEntries = true)
+    })
+    public boolean approveManager(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || user.getRole() != Role.EVENT_MANAGER) {
+            return false;
+        }
+        user.setEnabled(true);
+        userRepository.save(user);
+        return true;
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.USER_CACHE, allEntries = true),
+            @CacheEvict(value = CacheConfig.PENDING_APPROVALS_CACHE, allEntries = true)
+    })
+    public boolean rejectManager(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || user.getRole() != Role.EVENT_MANAGER) {
+            return false;
+        }
+        // Delete the request to allow re-registration or cleanup
+        userRepository.delete(user);
+        return true;
+    }
+
+    @Override
+    public Page<User> getPendingManagers(Pageable pageable) {
+        return userRepository.findByRoleAndEnabled(Role.EVENT_MANAGER, false, pageable);
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.PENDING_APPROVALS_CACHE, key = "'count'")
+    public long countPendingManagers() {
+        return userRepository.countByRoleAndEnabled(Role.EVENT_MANAGER, false);
+    }
 }
@@ -1,13 +1,20 @@
 package com.venue.management.service.impl;
 
+import com.venue.management.config.CacheConfig;
 import com.venue.management.entity.Venue;
-import com.venue.management.repository.BookingRepository;
 import com.venue.management.repository.VenueRepository;
+import com.venue.management.service.PricingEngine;
+import com.venue.management.service.VenueDeletionService;
 import com.venue.management.service.VenueService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +25,13 @@ public class VenueServiceImpl implements VenueService {
     private VenueRepository venueRepository;
 
     @Autowired
-    private BookingRepository bookingRepository;
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private VenueDeletionService venueDeletionService;
 
     @Override
+    @Cacheable(value = CacheConfig.VENUE_CACHE, key = "'all'")
     public List<Venue> getAllVenues() {
         return venueRepository.findAll();
     }
@@ -31,25 +42,44 @@ public class VenueServiceImpl implements VenueService {
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.VENUE_CACHE, allEntries = true)
     public Venue saveVenue(Venue venue) {
-        return venueRepository.save(venue);
+        Venue saved = venueRepository.save(venue);
+        pricingEngine.evict(saved.getVenueId());
+        return saved;
     }
 
     @Override
-    @Transactional
+    @CacheEvict(value = CacheConfig.VENUE_CACHE, allEntries = true)
     public void deleteVenue(Long id) {
-        Venue venue = venueRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Venue not found"));
-        
-        // Delete all bookings associated with this venue first
-        bookingRepository.findByVenue(venue).forEach(bookingRepository::delete);
-        
-        // Now delete the venue
-        venueRepository.deleteById(id);
+        // Payments, then bookings, then the venue, in chunked bulk deletes
+        venueDeletionService.deleteVenue(id);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.VENUE_CACHE, allEntries = true)
+    public boolean updateThumbnail(Long venueId, String imagePath, String thumbnailPath) {
+        return venueRepository.updateThumbnailPath(venueId, imagePath, thumbnailPath) > 0;
     }
 
     @Override
+    @Cacheable(value = CacheConfig.VENUE_CACHE, key = "'available'")
     public List<Venue> getAvailableVenues() {
         return venueRepository.findByStatus("AVAILABLE");
     }
+
+    @Override
+    public Page<Venue> searchVenues(String location, Integer minCapacity, Integer maxCapacity, Double minPrice,
+                                    Double maxPrice, String status, LocalDate freeFrom, LocalDate freeTo,
+                                    Pageable pageable) {
+        // A single free date means "free on that day"
+        if (freeFrom != null && (freeTo == null || freeTo.isBefore(freeFrom))) {
+            freeTo = freeFrom;
+        } else if (freeFrom == null && freeTo != null) {
+            freeFrom = freeTo;
+        }
+        return venueRepository.search(location, minCapacity, maxCapacity, minPrice, maxPrice, status,
+                freeFrom, freeTo, pageable);
+    }
 }
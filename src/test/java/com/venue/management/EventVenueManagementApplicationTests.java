@@ -0,0 +1,17 @@
+package com.venue.management;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(H2TestConfig.class)
+class EventVenueManagementApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
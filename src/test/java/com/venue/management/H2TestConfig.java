@@ -0,0 +1,70 @@
+package com.venue.management;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The streaming repository queries pass Integer.MIN_VALUE as fetch size, which only
+ * MySQL Connector/J understands. H2 rejects it, so negative fetch sizes are dropped here.
+ */
+@TestConfiguration
+public class H2TestConfig {
+
+	@Bean
+	static BeanPostProcessor ignoreStreamingFetchSize() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!(bean instanceof DataSource dataSource)) {
+					return bean;
+				}
+				return new DelegatingDataSource(dataSource) {
+					@Override
+					public Connection getConnection() throws SQLException {
+						return wrap(super.getConnection());
+					}
+				};
+			}
+		};
+	}
+
+	private static Connection wrap(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+					Object result = invoke(connection, method, args);
+					if (result instanceof Statement statement) {
+						return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+								statement.getClass().getInterfaces(), fetchSizeGuard(statement));
+					}
+					return result;
+				});
+	}
+
+	private static InvocationHandler fetchSizeGuard(Statement statement) {
+		return (proxy, method, args) -> {
+			if (method.getName().equals("setFetchSize") && (int) args[0] < 0) {
+				return null;
+			}
+			return invoke(statement, method, args);
+		};
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.venue.management.controller;
+
+import com.venue.management.H2TestConfig;
+import com.venue.management.entity.Role;
+import com.venue.management.entity.User;
+import com.venue.management.repository.UserRepository;
+import com.venue.management.service.VenueUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Out-of-range calendar queries are the caller's mistake and answer 400.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(H2TestConfig.class)
+class CalendarControllerTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private MockMvc mockMvc;
+	private User manager;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+		String name = "calendar-" + UUID.randomUUID();
+		manager = userRepository.save(new User(null, name, "x", name + "@example.com", Role.EVENT_MANAGER, true));
+	}
+
+	@Test
+	void freeWindowsRejectsBadRanges() throws Exception {
+		LocalDate today = LocalDate.now();
+		expect("/manager/calendar/free?from=" + today + "&to=" + today.plusMonths(1), status().isOk());
+		expect("/manager/calendar/free?from=" + today + "&to=" + today.minusDays(1), status().isBadRequest());
+		expect("/manager/calendar/free?from=" + today + "&to=" + today.plusYears(4), status().isBadRequest());
+	}
+
+	@Test
+	void occupancyRejectsFarAwayYears() throws Exception {
+		int year = LocalDate.now().getYear();
+		expect("/manager/calendar/occupancy?year=" + year, status().isOk());
+		expect("/manager/calendar/occupancy?year=" + (year + 1000), status().isBadRequest());
+		expect("/manager/calendar/occupancy?year=-5", status().isBadRequest());
+	}
+
+	private void expect(String path, ResultMatcher matcher) throws Exception {
+		mockMvc.perform(get(path).with(user(new VenueUserDetails(manager)))).andExpect(matcher);
+	}
+}
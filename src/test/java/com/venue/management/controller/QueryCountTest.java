@@ -0,0 +1,165 @@
+package com.venue.management.controller;
+
+import com.venue.management.H2TestConfig;
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.Payment;
+import com.venue.management.entity.Role;
+import com.venue.management.entity.SupportTicket;
+import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.PaymentRepository;
+import com.venue.management.repository.SupportTicketRepository;
+import com.venue.management.repository.UserRepository;
+import com.venue.management.repository.VenueRepository;
+import com.venue.management.service.VenueUserDetails;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of JDBC statements each list page issues, template rendering
+ * included. Every page lists several rows whose associations it renders, so a
+ * lazy association that slips out of its entity graph shows up here as 1 + N.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(H2TestConfig.class)
+class QueryCountTest {
+
+	private static final int ROWS = 5;
+	// Smaller than ROWS so every paged list is full and Spring Data always runs its count query
+	private static final String PAGE = "?size=" + (ROWS - 1);
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private SupportTicketRepository supportTicketRepository;
+
+	private MockMvc mockMvc;
+	private Statistics statistics;
+	private User admin;
+	private User customer;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		admin = newUser(Role.ADMIN);
+		User manager = newUser(Role.EVENT_MANAGER);
+		customer = newUser(Role.CUSTOMER);
+
+		LocalDate start = LocalDate.now().plusYears(2);
+		for (int i = 0; i < ROWS; i++) {
+			// Distinct venues and users per row, so each association would be its own lazy load
+			Venue venue = venueRepository.save(new Venue(null, "Count Hall " + i, "Count City", 50, 500.0, "AVAILABLE"));
+			Booking booking = new Booking(null, customer, venue, start.plusDays(i), "Meeting", "CONFIRMED");
+			booking.setEndDate(start.plusDays(i));
+			booking = bookingRepository.save(booking);
+			paymentRepository.save(new Payment(null, booking, 500.0, LocalDateTime.now(), "SUCCESS"));
+
+			SupportTicket ticket = new SupportTicket(null, newUser(Role.CUSTOMER), "Issue " + i, "OPEN",
+					LocalDateTime.now(), null, null);
+			ticket.setAssignee(i % 2 == 0 ? manager : admin);
+			supportTicketRepository.save(ticket);
+		}
+		supportTicketRepository.save(new SupportTicket(null, customer, "Own issue", "OPEN",
+				LocalDateTime.now(), null, null));
+	}
+
+	@Test
+	void bookingsForCustomer() throws Exception {
+		// Page of bookings with venue, plus the count query
+		assertStatements("/bookings" + PAGE, customer, 2);
+	}
+
+	@Test
+	void bookingsForAdmin() throws Exception {
+		// Page of bookings with venue, the count query, and the venue filter list
+		assertStatements("/bookings" + PAGE, admin, 3);
+	}
+
+	@Test
+	void adminPayments() throws Exception {
+		// Grouped summary, page of payments with booking, user and venue, and the count query
+		assertStatements("/payments/admin" + PAGE, admin, 3);
+	}
+
+	@Test
+	void myPayments() throws Exception {
+		assertStatements("/payments/my-payments", customer, 1);
+	}
+
+	@Test
+	void supportForStaff() throws Exception {
+		assertStatements("/support", admin, 1);
+	}
+
+	@Test
+	void supportForCustomer() throws Exception {
+		assertStatements("/support", customer, 1);
+	}
+
+	@Test
+	void venueSearchWithQuotes() throws Exception {
+		// Page of venues, the count query, and one bulk load of the uncached rate cards
+		LocalDate from = LocalDate.now().plusYears(3);
+		assertStatements("/venues/search" + PAGE + "&location=Count&from=" + from + "&to=" + from.plusDays(2),
+				customer, 3);
+	}
+
+	private void assertStatements(String path, User principal, long expected) throws Exception {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		statistics.clear();
+
+		mockMvc.perform(get(path).with(user(new VenueUserDetails(principal)))).andExpect(status().isOk());
+
+		assertThat(statistics.getPrepareStatementCount())
+				.as("JDBC statements for %s as %s", path, principal.getRole())
+				.isEqualTo(expected);
+	}
+
+	private User newUser(Role role) {
+		String name = "count-" + UUID.randomUUID();
+		return userRepository.save(new User(null, name, "x", name + "@example.com", role, true));
+	}
+}
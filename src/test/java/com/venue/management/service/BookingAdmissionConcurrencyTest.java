@@ -0,0 +1,185 @@
+package com.venue.management.service;
+
+import com.venue.management.H2TestConfig;
+import com.venue.management.entity.Booking;
+import com.venue.management.entity.Role;
+import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import com.venue.management.repository.BookingRepository;
+import com.venue.management.repository.UserRepository;
+import com.venue.management.repository.VenueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers createBooking from many threads and checks that no two active
+ * bookings of a venue overlap, whatever interleaving the threads produced.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(H2TestConfig.class)
+class BookingAdmissionConcurrencyTest {
+
+	private static final int THREADS = 16;
+	private static final int ATTEMPTS_PER_THREAD = 40;
+	// A narrow window makes most attempts collide, which is the interesting case
+	private static final int WINDOW_DAYS = 60;
+	private static final int MAX_SPAN_DAYS = 4;
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	private User customer;
+	private LocalDate windowStart;
+
+	@BeforeEach
+	void setUp() {
+		String name = "stress-" + UUID.randomUUID();
+		customer = userRepository.save(new User(null, name, "x", name + "@example.com", Role.CUSTOMER, true));
+		windowStart = LocalDate.now().plusYears(1);
+	}
+
+	@Test
+	void oneVenueNeverGetsOverlappingBookings() throws Exception {
+		Venue venue = newVenue();
+
+		Result result = hammer(List.of(venue));
+
+		assertNoUnexpectedFailures(result);
+		assertThat(result.admitted.get()).isPositive();
+		assertThat(result.rejected.get()).isPositive();
+		assertNoOverlaps(venue);
+		assertThat(activeBookings(venue)).hasSize(result.admitted.get());
+	}
+
+	@Test
+	void manyVenuesInParallelNeverGetOverlappingBookings() throws Exception {
+		List<Venue> venues = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			venues.add(newVenue());
+		}
+
+		Result result = hammer(venues);
+
+		assertNoUnexpectedFailures(result);
+		int total = 0;
+		for (Venue venue : venues) {
+			assertNoOverlaps(venue);
+			total += activeBookings(venue).size();
+		}
+		assertThat(total).isEqualTo(result.admitted.get());
+	}
+
+	private Result hammer(List<Venue> venues) throws Exception {
+		Result result = new Result();
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(pool.submit(() -> {
+				start.await();
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+					LocalDate from = windowStart.plusDays(random.nextInt(WINDOW_DAYS));
+					Booking booking = new Booking();
+					booking.setUser(customer);
+					booking.setVenue(venues.get(random.nextInt(venues.size())));
+					booking.setEventDate(from);
+					booking.setEndDate(from.plusDays(random.nextInt(MAX_SPAN_DAYS)));
+					booking.setEventType("Stress");
+					try {
+						bookingService.createBooking(booking);
+						result.admitted.incrementAndGet();
+					} catch (BookingConflictException e) {
+						result.rejected.incrementAndGet();
+					} catch (RuntimeException e) {
+						result.unexpected.incrementAndGet();
+						result.firstUnexpected.compareAndSet(null, e);
+					}
+				}
+				return null;
+			}));
+		}
+		long began = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(2, TimeUnit.MINUTES);
+		}
+		long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began));
+		pool.shutdown();
+
+		int attempts = THREADS * ATTEMPTS_PER_THREAD;
+		System.out.printf("%d venue(s): %d attempts from %d threads in %d ms (%d/s), %d admitted, %d rejected%n",
+				venues.size(), attempts, THREADS, elapsedMillis, attempts * 1000L / elapsedMillis,
+				result.admitted.get(), result.rejected.get());
+		return result;
+	}
+
+	private static void assertNoUnexpectedFailures(Result result) {
+		assertThat(result.unexpected.get())
+				.as("unexpected failures, first: %s", result.firstUnexpected.get())
+				.isZero();
+	}
+
+	private void assertNoOverlaps(Venue venue) {
+		List<Booking> active = activeBookings(venue);
+		active.sort(Comparator.comparing(Booking::getEventDate));
+		for (int i = 1; i < active.size(); i++) {
+			Booking previous = active.get(i - 1);
+			Booking current = active.get(i);
+			assertThat(current.getEventDate())
+					.as("booking %d overlaps booking %d", current.getBookingId(), previous.getBookingId())
+					.isAfter(previous.getEndDate());
+		}
+	}
+
+	private List<Booking> activeBookings(Venue venue) {
+		List<Booking> active = new ArrayList<>();
+		for (Booking booking : bookingRepository.findByVenue(venue)) {
+			if (!"CANCELLED".equals(booking.getStatus())) {
+				active.add(booking);
+			}
+		}
+		return active;
+	}
+
+	private Venue newVenue() {
+		return venueRepository.save(new Venue(null, "Stress Hall", "Stress City", 100, 1000.0, "AVAILABLE"));
+	}
+
+	private static class Result {
+		final AtomicInteger admitted = new AtomicInteger();
+		final AtomicInteger rejected = new AtomicInteger();
+		final AtomicInteger unexpected = new AtomicInteger();
+		final AtomicReference<RuntimeException> firstUnexpected = new AtomicReference<>();
+	}
+}
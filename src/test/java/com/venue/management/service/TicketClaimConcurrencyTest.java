@@ -0,0 +1,130 @@
+package com.venue.management.service;
+
+import com.venue.management.entity.Role;
+import com.venue.management.entity.SupportTicket;
+import com.venue.management.entity.User;
+import com.venue.management.repository.SupportTicketRepository;
+import com.venue.management.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many staff members drain the ticket queue at once through claimNextTicket and
+ * every ticket must end up with exactly one claimer. The claim relies on MySQL's
+ * FOR UPDATE ... SKIP LOCKED, so this runs against a real MySQL container and is
+ * skipped where Docker is not available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class TicketClaimConcurrencyTest {
+
+	private static final int THREADS = 16;
+	private static final int TICKETS = 400;
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+		registry.add("spring.jpa.show-sql", () -> "false");
+		registry.add("venue.images.dir", () -> System.getProperty("java.io.tmpdir") + "/venue-images-test");
+	}
+
+	@Autowired
+	private SupportTicketService supportTicketService;
+
+	@Autowired
+	private SupportTicketRepository supportTicketRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void everyTicketIsClaimedByExactlyOneStaffMember() throws Exception {
+		User customer = newUser(Role.CUSTOMER);
+		LocalDateTime created = LocalDateTime.now().minusDays(1);
+		List<SupportTicket> tickets = new ArrayList<>();
+		for (int i = 0; i < TICKETS; i++) {
+			tickets.add(new SupportTicket(null, customer, "Issue " + i, "OPEN", created.plusSeconds(i), null, null));
+		}
+		supportTicketRepository.saveAll(tickets);
+
+		List<User> staff = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			staff.add(newUser(Role.ADMIN));
+		}
+
+		// ticket id -> id of the staff member whose claim returned it
+		Map<Long, Long> claimedBy = new ConcurrentHashMap<>();
+		AtomicInteger duplicates = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (User member : staff) {
+			futures.add(pool.submit(() -> {
+				start.await();
+				Optional<SupportTicket> claimed;
+				while ((claimed = supportTicketService.claimNextTicket(member)).isPresent()) {
+					if (claimedBy.putIfAbsent(claimed.get().getTicketId(), member.getUserId()) != null) {
+						duplicates.incrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+		long began = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(2, TimeUnit.MINUTES);
+		}
+		long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began));
+		pool.shutdown();
+		System.out.printf("%d tickets claimed by %d threads in %d ms (%d/s)%n",
+				claimedBy.size(), THREADS, elapsedMillis, claimedBy.size() * 1000L / elapsedMillis);
+
+		assertThat(duplicates.get()).isZero();
+		assertThat(claimedBy).hasSize(TICKETS);
+		// The stored assignee is the claimer that was handed the ticket, not a later one
+		transactionTemplate.executeWithoutResult(status -> {
+			for (SupportTicket ticket : supportTicketRepository.findAll()) {
+				assertThat(ticket.getAssignee()).isNotNull();
+				assertThat(ticket.getAssignee().getUserId()).isEqualTo(claimedBy.get(ticket.getTicketId()));
+			}
+		});
+	}
+
+	private User newUser(Role role) {
+		String name = "claim-" + UUID.randomUUID();
+		return userRepository.save(new User(null, name, "x", name + "@example.com", role, true));
+	}
+}
@@ -0,0 +1,85 @@
+package com.venue.management.service;
+
+import com.venue.management.entity.SupportTicket;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Churns a large synthetic index the way ticket edits do and checks that
+ * ordinals are reclaimed and results stay right; prints query latency.
+ */
+class TicketSearchIndexTest {
+
+	private static final int TICKETS = 50_000;
+	private static final int EDITS_PER_TICKET = 4;
+	private static final int VOCABULARY = 2_000;
+	private static final int WORDS_PER_TICKET = 20;
+	private static final int QUERIES = 5_000;
+
+	@Test
+	void editsDoNotGrowOrdinalsAndQueriesStayCorrect() {
+		TicketSearchIndex index = new TicketSearchIndex();
+		Random random = new Random(42);
+		for (long id = 1; id <= TICKETS; id++) {
+			index.add(ticket(id, 0));
+		}
+		double freshMicros = measureQueries(index, random);
+
+		for (int version = 1; version <= EDITS_PER_TICKET; version++) {
+			for (long id = 1; id <= TICKETS; id++) {
+				index.update(ticket(id, version), TicketSearchIndex.text(ticket(id, version - 1)));
+			}
+		}
+		double churnedMicros = measureQueries(index, random);
+
+		System.out.printf("%d tickets, %d edits: %d ordinals, query %.1f us fresh, %.1f us after edits%n",
+				TICKETS, TICKETS * EDITS_PER_TICKET, index.ordinals(), freshMicros, churnedMicros);
+
+		assertThat(index.ordinals()).isLessThanOrEqualTo(2 * TICKETS + 1);
+		for (long id = 1; id <= TICKETS; id += 997) {
+			assertThat(index.search(marker(id, EDITS_PER_TICKET), 10)).containsExactly(id);
+			assertThat(index.search(marker(id, EDITS_PER_TICKET - 1), 10)).isEmpty();
+		}
+	}
+
+	private static double measureQueries(TicketSearchIndex index, Random random) {
+		// Warm up before timing
+		for (int i = 0; i < QUERIES; i++) {
+			index.search(query(random), 10);
+		}
+		long began = System.nanoTime();
+		for (int i = 0; i < QUERIES; i++) {
+			index.search(query(random), 10);
+		}
+		return (System.nanoTime() - began) / 1000.0 / QUERIES;
+	}
+
+	private static String query(Random random) {
+		return word(random.nextInt(VOCABULARY)) + " " + word(random.nextInt(VOCABULARY)) + " "
+				+ word(random.nextInt(VOCABULARY));
+	}
+
+	// Reproducible from (id, version), so an edit can pass the text it replaces
+	private static SupportTicket ticket(long id, int version) {
+		Random random = new Random(id * 31 + version);
+		StringBuilder text = new StringBuilder(marker(id, version));
+		for (int i = 0; i < WORDS_PER_TICKET; i++) {
+			// Skewed towards low ranks, like natural-language term frequencies
+			int rank = (int) (VOCABULARY * Math.pow(random.nextDouble(), 3));
+			text.append(' ').append(word(rank));
+		}
+		return new SupportTicket(id, null, text.toString(), "OPEN", null, null, null);
+	}
+
+	// A token only this version of this ticket contains
+	private static String marker(long id, int version) {
+		return "ticket" + id + "v" + version;
+	}
+
+	private static String word(int rank) {
+		return "w" + Integer.toString(rank, 36);
+	}
+}
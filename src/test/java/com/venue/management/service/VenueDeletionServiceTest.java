@@ -0,0 +1,136 @@
+package com.venue.management.service;
+
+import com.venue.management.H2TestConfig;
+import com.venue.management.entity.Role;
+import com.venue.management.entity.User;
+import com.venue.management.entity.Venue;
+import com.venue.management.repository.UserRepository;
+import com.venue.management.repository.VenueRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the background venue deletion over a large booking history and checks
+ * the job's reporting around it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(H2TestConfig.class)
+class VenueDeletionServiceTest {
+
+	private static final int BOOKINGS = 100_000;
+	// Far in the past, clear of the dates other tests book
+	private static final LocalDate FIRST_DAY = LocalDate.of(1800, 1, 1);
+
+	@Autowired
+	private VenueDeletionService venueDeletionService;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Test
+	void deletesVenueWithLargeBookingHistory() throws Exception {
+		Venue venue = newVenue();
+		User customer = newUser(Role.CUSTOMER);
+		// Plain JDBC batches keep seeding fast; one day per booking, each with a payment
+		jdbcTemplate.batchUpdate("INSERT INTO bookings (user_id, venue_id, event_date, end_date, event_type, status) "
+						+ "VALUES (?, ?, ?, ?, 'Bulk', 'COMPLETED')",
+				IntStream.range(0, BOOKINGS)
+						.mapToObj(i -> new Object[] {customer.getUserId(), venue.getVenueId(),
+								FIRST_DAY.plusDays(i), FIRST_DAY.plusDays(i)})
+						.toList());
+		jdbcTemplate.update("INSERT INTO payments (booking_id, payment_amount, payment_date, payment_status) "
+				+ "SELECT booking_id, 100.0, CURRENT_TIMESTAMP, 'SUCCESS' FROM bookings WHERE venue_id = ?",
+				venue.getVenueId());
+		long paymentsBefore = countPayments();
+
+		long began = System.nanoTime();
+		String jobId = venueDeletionService.startDeletion(venue.getVenueId(), null);
+		VenueDeletionService.JobProgress progress = awaitFinished(jobId);
+		System.out.printf("Deleted %d bookings and %d payments in %d ms%n", progress.deletedBookings(),
+				progress.deletedPayments(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began));
+
+		assertThat(progress.status()).isEqualTo(VenueDeletionService.JobStatus.COMPLETED);
+		assertThat(progress.totalBookings()).isEqualTo(BOOKINGS);
+		assertThat(progress.deletedBookings()).isEqualTo(BOOKINGS);
+		assertThat(progress.deletedPayments()).isEqualTo(BOOKINGS);
+		assertThat(venueRepository.existsById(venue.getVenueId())).isFalse();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings WHERE venue_id = ?",
+				Long.class, venue.getVenueId())).isZero();
+		assertThat(paymentsBefore - countPayments()).isEqualTo(BOOKINGS);
+	}
+
+	@Test
+	void failingCleanUpStillCompletesTheJob() throws Exception {
+		Venue venue = newVenue();
+
+		String jobId = venueDeletionService.startDeletion(venue.getVenueId(), () -> {
+			throw new IllegalStateException("image store unavailable");
+		});
+		VenueDeletionService.JobProgress progress = awaitFinished(jobId);
+
+		assertThat(progress.status()).isEqualTo(VenueDeletionService.JobStatus.COMPLETED);
+		assertThat(progress.error()).isNull();
+		assertThat(venueRepository.existsById(venue.getVenueId())).isFalse();
+	}
+
+	@Test
+	void unknownJobIsNotFound() throws Exception {
+		MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build()
+				.perform(get("/venues/delete/jobs/" + UUID.randomUUID())
+						.with(user(new VenueUserDetails(newUser(Role.ADMIN)))))
+				.andExpect(status().isNotFound());
+	}
+
+	private VenueDeletionService.JobProgress awaitFinished(String jobId) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			VenueDeletionService.JobProgress progress = venueDeletionService.getProgress(jobId).orElseThrow();
+			if (progress.status() == VenueDeletionService.JobStatus.COMPLETED
+					|| progress.status() == VenueDeletionService.JobStatus.FAILED) {
+				return progress;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("Deletion job " + jobId + " did not finish");
+	}
+
+	private long countPayments() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments", Long.class);
+	}
+
+	private Venue newVenue() {
+		return venueRepository.save(new Venue(null, "Doomed Hall", "Doomed City", 100, 1000.0, "AVAILABLE"));
+	}
+
+	private User newUser(Role role) {
+		String name = "delete-" + UUID.randomUUID();
+		return userRepository.save(new User(null, name, "x", name + "@example.com", role, true));
+	}
+}